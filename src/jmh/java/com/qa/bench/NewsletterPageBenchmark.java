@@ -0,0 +1,80 @@
+package com.qa.bench;
+
+import com.qa.config.TestTarget;
+import com.qa.factory.DriverFactory;
+import com.qa.pages.NewsletterPage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openqa.selenium.WebDriver;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * NewsletterPageBenchmark - Latency of NewsletterPage operations on the sign-up form
+ * One headless Chrome session per fork, loaded once from the local fixture server
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class NewsletterPageBenchmark {
+
+    private static final String INVALID_EMAIL = "invalid-email";
+
+    private WebDriver driver;
+    private NewsletterPage newsletterPage;
+
+    @Setup(Level.Trial)
+    public void startBrowser() {
+        driver = DriverFactory.initializeDriver("chrome");
+        driver.get(TestTarget.baseUrl());
+        newsletterPage = new NewsletterPage(driver);
+    }
+
+    /**
+     * Leave the form showing the validation error, the state the error checks measure
+     */
+    @Setup(Level.Iteration)
+    public void showValidationError() {
+        newsletterPage.subscribeWithEmail(INVALID_EMAIL);
+    }
+
+    @TearDown(Level.Trial)
+    public void stopBrowser() {
+        DriverFactory.quitDriver();
+    }
+
+    @Benchmark
+    public NewsletterPage enterEmail() {
+        return newsletterPage.enterEmail(INVALID_EMAIL);
+    }
+
+    @Benchmark
+    public void clickSubscribeButton() {
+        // Invalid input keeps the page on the form, so every click does the same work
+        newsletterPage.clickSubscribeButton();
+    }
+
+    @Benchmark
+    public boolean isErrorMessageDisplayed() {
+        return newsletterPage.isErrorMessageDisplayed();
+    }
+
+    @Benchmark
+    public void initElements(Blackhole blackhole) {
+        blackhole.consume(new NewsletterPage(driver));
+    }
+}
@@ -0,0 +1,69 @@
+package com.qa.bench;
+
+import com.qa.config.TestTarget;
+import com.qa.factory.DriverFactory;
+import com.qa.pages.NewsletterPage;
+import com.qa.pages.SuccessPage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openqa.selenium.WebDriver;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SuccessPageBenchmark - Latency of SuccessPage checks once the success message is shown
+ * One headless Chrome session per fork, subscribed once against the local fixture server
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SuccessPageBenchmark {
+
+    private WebDriver driver;
+    private SuccessPage successPage;
+
+    @Setup(Level.Trial)
+    public void subscribe() {
+        driver = DriverFactory.initializeDriver("chrome");
+        driver.get(TestTarget.baseUrl());
+        new NewsletterPage(driver).subscribeWithEmail("bench@example.com");
+        successPage = new SuccessPage(driver);
+        if (!successPage.waitForSuccessPageToAppear()) {
+            throw new IllegalStateException("Success message did not appear during benchmark setup");
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void stopBrowser() {
+        DriverFactory.quitDriver();
+    }
+
+    @Benchmark
+    public boolean waitForSuccessPageToAppear() {
+        return successPage.waitForSuccessPageToAppear();
+    }
+
+    @Benchmark
+    public boolean verifySuccessMessage() {
+        return successPage.verifySuccessMessage("Thanks for subscribing");
+    }
+
+    @Benchmark
+    public void initElements(Blackhole blackhole) {
+        blackhole.consume(new SuccessPage(driver));
+    }
+}
@@ -0,0 +1,119 @@
+package com.qa.artifacts;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * ArtifactWriter - Writes failure artifacts on a single background thread
+ * The queue is bounded: when failures arrive faster than they can be written, further
+ * artifacts are dropped with a warning instead of blocking the test thread.
+ * Text artifacts are gzip-compressed; every artifact is capped at -Dartifacts.max.kb.
+ *
+ * Configured with system properties:
+ * artifacts.dir (target/failure-artifacts), artifacts.max.kb (2048), artifacts.queue (16)
+ */
+public final class ArtifactWriter implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(ArtifactWriter.class);
+    private static final long DRAIN_TIMEOUT_SECONDS = 30;
+    private static final byte[] TRUNCATED = "\n[truncated]\n".getBytes();
+
+    private static ArtifactWriter shared;
+
+    private final Path root;
+    private final int maxBytes;
+    private final ThreadPoolExecutor executor;
+
+    private ArtifactWriter(Path root, int maxBytes, int queueCapacity) {
+        this.root = root;
+        this.maxBytes = maxBytes;
+        this.executor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+                    Thread thread = new Thread(runnable, "artifact-writer");
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * The JVM-wide writer, created on first use and again after it was closed,
+     * e.g. when a second test run starts in the same JVM
+     */
+    public static synchronized ArtifactWriter shared() {
+        if (shared == null || shared.executor.isShutdown()) {
+            shared = new ArtifactWriter(
+                    Paths.get(System.getProperty("artifacts.dir", "target/failure-artifacts")),
+                    Integer.getInteger("artifacts.max.kb", 2048) * 1024,
+                    Integer.getInteger("artifacts.queue", 16));
+        }
+        return shared;
+    }
+
+    /**
+     * Queue artifacts for writing; returns immediately
+     * @return false if the queue was full and the artifacts were dropped
+     */
+    public boolean submit(FailureArtifacts artifacts) {
+        try {
+            executor.execute(() -> write(artifacts));
+            return true;
+        } catch (RejectedExecutionException e) {
+            log.warn("Artifact queue full, dropping diagnostics of {}", artifacts.getTestId());
+            return false;
+        }
+    }
+
+    /**
+     * Finish writing everything queued so far
+     */
+    @Override
+    public void close() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(DRAIN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                log.warn("Artifact writer did not finish within {} s", DRAIN_TIMEOUT_SECONDS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void write(FailureArtifacts artifacts) {
+        Path directory = root.resolve(artifacts.getTestId().replaceAll("[^A-Za-z0-9._-]", "_"));
+        try {
+            Files.createDirectories(directory);
+            for (Map.Entry<String, byte[]> file : artifacts.getFiles().entrySet()) {
+                byte[] content = file.getValue();
+                String name = file.getKey();
+                if (name.endsWith(".png")) {
+                    // Already compressed; an oversized screenshot is skipped rather than cut
+                    if (content.length <= maxBytes) {
+                        Files.write(directory.resolve(name), content);
+                    }
+                    continue;
+                }
+                try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(directory.resolve(name + ".gz")))) {
+                    out.write(content, 0, Math.min(content.length, maxBytes));
+                    if (content.length > maxBytes) {
+                        out.write(TRUNCATED);
+                    }
+                }
+            }
+            log.info("Failure artifacts of {} written to {}", artifacts.getTestId(), directory.toAbsolutePath());
+        } catch (IOException e) {
+            log.warn("Could not write failure artifacts to {}: {}", directory, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.qa.artifacts;
+
+import com.qa.metrics.CommandTrace;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.TakesScreenshot;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.logging.LogEntry;
+import org.openqa.selenium.logging.LogType;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * FailureArtifacts - Raw diagnostics of a failed test, grabbed from the live session
+ * Capture only copies bytes out of the browser (screenshot, DOM, console log, command trace);
+ * compressing and writing them is left to {@link ArtifactWriter} so the session can be released at once
+ */
+public final class FailureArtifacts {
+
+    private final String testId;
+    private final Map<String, byte[]> files;
+
+    private FailureArtifacts(String testId, Map<String, byte[]> files) {
+        this.testId = testId;
+        this.files = Collections.unmodifiableMap(files);
+    }
+
+    /**
+     * Grab whatever the session can provide; artifacts the engine does not support are skipped
+     * @param testId - name of the artifact directory
+     * @param driver - session of the failed test, may be null if setup failed before it existed
+     */
+    public static FailureArtifacts capture(String testId, WebDriver driver) {
+        // Taken first so the capture's own commands do not appear in the trace
+        String trace = String.join("\n", CommandTrace.snapshot()) + "\n";
+        Map<String, byte[]> files = new LinkedHashMap<>();
+        if (driver != null) {
+            try {
+                if (driver instanceof TakesScreenshot) {
+                    files.put("screenshot.png", ((TakesScreenshot) driver).getScreenshotAs(OutputType.BYTES));
+                }
+            } catch (WebDriverException e) {
+                files.put("screenshot-error.txt", utf8(e.toString()));
+            }
+            try {
+                files.put("dom.html", utf8(driver.getPageSource()));
+            } catch (WebDriverException e) {
+                files.put("dom-error.txt", utf8(e.toString()));
+            }
+            try {
+                StringBuilder console = new StringBuilder();
+                for (LogEntry entry : driver.manage().logs().get(LogType.BROWSER)) {
+                    console.append(entry).append('\n');
+                }
+                files.put("console.log", utf8(console.toString()));
+            } catch (WebDriverException | UnsupportedOperationException e) {
+                // Browser log not available for this engine
+            }
+        }
+        if (CommandTrace.isEnabled()) {
+            files.put("commands.log", utf8(trace));
+        }
+        return new FailureArtifacts(testId, files);
+    }
+
+    public String getTestId() {
+        return testId;
+    }
+
+    /**
+     * File name to raw content
+     */
+    public Map<String, byte[]> getFiles() {
+        return files;
+    }
+
+    private static byte[] utf8(String text) {
+        return text == null ? new byte[0] : text.getBytes(StandardCharsets.UTF_8);
+    }
+}
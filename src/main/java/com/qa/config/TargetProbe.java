@@ -0,0 +1,125 @@
+package com.qa.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * TargetProbe - One readiness check of the page under test per JVM
+ * Requests the base URL over plain HTTP until the server answers without a 5xx, backing off
+ * exponentially within a total budget. The hosted site cold-starts, so this absorbs the wake-up
+ * once, in parallel with browser launch, instead of in the first test's page load.
+ * The probe runs on its own daemon thread, so its blocking requests and back-off sleeps never
+ * occupy the common ForkJoinPool that parallel test execution shares. Callers wait on the same
+ * cached result.
+ *
+ * Tuned with system properties:
+ * target.probe.budget.ms (120000), target.probe.initial.ms (500), target.probe.max.ms (8000)
+ */
+public final class TargetProbe {
+
+    private static final Logger log = LoggerFactory.getLogger(TargetProbe.class);
+    private static final long REQUEST_TIMEOUT_MS = 30_000;
+
+    private static CompletableFuture<Void> result;
+
+    private TargetProbe() {
+    }
+
+    /**
+     * Start probing the target in the background; later calls return the same probe
+     */
+    public static synchronized CompletableFuture<Void> start() {
+        if (result == null) {
+            result = CompletableFuture.runAsync(() -> probe(TestTarget.baseUrl()), TargetProbe::startDaemon);
+        }
+        return result;
+    }
+
+    /**
+     * Block until the target answered, starting the probe if nobody did yet
+     * @throws IllegalStateException if the target did not come up within the budget
+     */
+    public static void awaitReady() {
+        try {
+            start().join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof IllegalStateException
+                    ? (IllegalStateException) e.getCause()
+                    : new IllegalStateException(e.getCause());
+        }
+    }
+
+    private static void startDaemon(Runnable task) {
+        Thread thread = new Thread(task, "target-probe");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    private static void probe(String url) {
+        long budgetMs = Long.getLong("target.probe.budget.ms", 120_000);
+        long backoffMs = Long.getLong("target.probe.initial.ms", 500);
+        long maxBackoffMs = Long.getLong("target.probe.max.ms", 8_000);
+        long start = System.nanoTime();
+        long deadline = start + TimeUnit.MILLISECONDS.toNanos(budgetMs);
+
+        HttpClient client = HttpClient.newBuilder()
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .connectTimeout(Duration.ofMillis(Math.min(budgetMs, REQUEST_TIMEOUT_MS)))
+                .build();
+        String lastOutcome = "no attempt";
+        int attempts = 0;
+
+        while (true) {
+            long remainingMs = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+            if (remainingMs <= 0) {
+                throw new IllegalStateException(String.format(
+                        "Target %s did not become ready within %d ms (%d attempts, last: %s)",
+                        url, budgetMs, attempts, lastOutcome));
+            }
+            attempts++;
+            try {
+                HttpRequest request = HttpRequest.newBuilder(URI.create(url))
+                        .timeout(Duration.ofMillis(Math.min(remainingMs, REQUEST_TIMEOUT_MS)))
+                        .GET()
+                        .build();
+                int status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+                if (status < 500) {
+                    log.info("Target {} ready (HTTP {}) after {} ms, {} attempt(s)", url, status,
+                            TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), attempts);
+                    return;
+                }
+                lastOutcome = "HTTP " + status;
+            } catch (IOException e) {
+                lastOutcome = e.getMessage() == null
+                        ? e.getClass().getSimpleName()
+                        : e.getClass().getSimpleName() + ": " + e.getMessage();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while probing " + url, e);
+            }
+
+            log.debug("Target {} not ready yet ({}), retrying in {} ms", url, lastOutcome, backoffMs);
+            sleep(Math.min(backoffMs, Math.max(0, TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime()))));
+            backoffMs = Math.min(maxBackoffMs, backoffMs * 2);
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while probing the target", e);
+        }
+    }
+}
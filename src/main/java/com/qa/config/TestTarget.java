@@ -0,0 +1,38 @@
+package com.qa.config;
+
+import com.qa.fixture.FixtureServer;
+
+/**
+ * TestTarget - Resolves the URL of the newsletter page under test
+ * -Dtarget=local (default) serves the bundled page from the in-process {@link FixtureServer};
+ * -Dtarget=remote uses the hosted site, overridable with -Dbase.url
+ */
+public final class TestTarget {
+
+    public static final String REMOTE_URL = "https://newsletter-sign-up-form-ntes.onrender.com/";
+
+    private TestTarget() {
+    }
+
+    /**
+     * Base URL for the selected target
+     */
+    public static String baseUrl() {
+        String target = System.getProperty("target", "local");
+        switch (target) {
+            case "local":
+                return FixtureServer.shared().getBaseUrl();
+            case "remote":
+                return System.getProperty("base.url", REMOTE_URL);
+            default:
+                throw new IllegalArgumentException("Unknown target '" + target + "', expected local or remote");
+        }
+    }
+
+    /**
+     * Check if tests run against the hosted site
+     */
+    public static boolean isRemote() {
+        return "remote".equals(System.getProperty("target", "local"));
+    }
+}
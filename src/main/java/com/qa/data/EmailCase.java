@@ -0,0 +1,28 @@
+package com.qa.data;
+
+/**
+ * EmailCase - One email input and whether the form is expected to accept it
+ */
+public final class EmailCase {
+
+    private final String email;
+    private final boolean expectedValid;
+
+    public EmailCase(String email, boolean expectedValid) {
+        this.email = email;
+        this.expectedValid = expectedValid;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public boolean isExpectedValid() {
+        return expectedValid;
+    }
+
+    @Override
+    public String toString() {
+        return "'" + email + "' (" + (expectedValid ? "valid" : "invalid") + ")";
+    }
+}
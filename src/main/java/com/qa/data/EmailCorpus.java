@@ -0,0 +1,94 @@
+package com.qa.data;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * EmailCorpus - Sources of email validation cases
+ * Cases come from a CSV file (email,valid) or from a seeded generator
+ */
+public final class EmailCorpus {
+
+    private static final String ALPHABET = "abcdefghijklmnopqrstuvwxyz0123456789";
+    private static final String[] TLDS = {"com", "org", "net", "io", "co.uk"};
+
+    private EmailCorpus() {
+    }
+
+    /**
+     * Read cases from a CSV file with an "email,valid" header
+     * The email column may be quoted to include commas or surrounding spaces
+     */
+    public static List<EmailCase> fromCsv(Path file) {
+        List<String> lines;
+        try {
+            lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read email corpus " + file, e);
+        }
+        List<EmailCase> cases = new ArrayList<>();
+        for (int i = 1; i < lines.size(); i++) {
+            String line = lines.get(i);
+            if (line.isBlank() || line.startsWith("#")) {
+                continue;
+            }
+            int split = line.lastIndexOf(',');
+            if (split < 0) {
+                throw new IllegalArgumentException(file + ":" + (i + 1) + ": expected email,valid but got " + line);
+            }
+            String email = line.substring(0, split);
+            if (email.length() >= 2 && email.startsWith("\"") && email.endsWith("\"")) {
+                email = email.substring(1, email.length() - 1).replace("\"\"", "\"");
+            }
+            cases.add(new EmailCase(email, Boolean.parseBoolean(line.substring(split + 1).trim())));
+        }
+        return cases;
+    }
+
+    /**
+     * Generate a reproducible mix of valid and invalid addresses
+     * @param count - number of cases
+     * @param seed - random seed, the same seed always yields the same corpus
+     */
+    public static List<EmailCase> generate(int count, long seed) {
+        Random random = new Random(seed);
+        List<EmailCase> cases = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String local = word(random, 3 + random.nextInt(10));
+            String domain = word(random, 2 + random.nextInt(8));
+            String tld = TLDS[random.nextInt(TLDS.length)];
+            switch (random.nextInt(8)) {
+                case 0:
+                    cases.add(new EmailCase(local + domain + "." + tld, false));
+                    break;
+                case 1:
+                    cases.add(new EmailCase(local + "@" + domain, false));
+                    break;
+                case 2:
+                    cases.add(new EmailCase("@" + domain + "." + tld, false));
+                    break;
+                case 3:
+                    cases.add(new EmailCase(local + " " + local + "@" + domain + "." + tld, false));
+                    break;
+                default:
+                    cases.add(new EmailCase(local + "@" + domain + "." + tld, true));
+                    break;
+            }
+        }
+        return cases;
+    }
+
+    private static String word(Random random, int length) {
+        StringBuilder word = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            word.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+        }
+        return word.toString();
+    }
+}
@@ -0,0 +1,70 @@
+package com.qa.data;
+
+import com.qa.pages.NewsletterPage;
+import com.qa.pages.SuccessPage;
+import com.qa.utils.DomWatcher;
+import org.openqa.selenium.WebDriver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * EmailValidationSweep - Feeds many email inputs through one browser session
+ * Each case types and submits through the page objects, waits in the browser for either
+ * the success message or the validation error, then resets the form in place
+ * (dismiss button plus script reset) instead of reloading the page
+ */
+public class EmailValidationSweep {
+
+    private static final Logger log = LoggerFactory.getLogger(EmailValidationSweep.class);
+    private static final String SUCCESS_MESSAGE = "#success-message";
+    private static final String EMAIL_ERROR = "#email-error";
+    private static final int PROGRESS_INTERVAL = 500;
+
+    private final WebDriver driver;
+    private final NewsletterPage newsletterPage;
+    private final SuccessPage successPage;
+    private final Duration outcomeTimeout;
+
+    /**
+     * @param driver - session already showing the newsletter page
+     * @param outcomeTimeout - how long to wait for the success message or the error after submitting
+     */
+    public EmailValidationSweep(WebDriver driver, Duration outcomeTimeout) {
+        this.driver = driver;
+        this.newsletterPage = new NewsletterPage(driver);
+        this.successPage = new SuccessPage(driver);
+        this.outcomeTimeout = outcomeTimeout;
+    }
+
+    /**
+     * Run every case and collect the outcomes
+     */
+    public ValidationResults run(Iterable<EmailCase> cases) {
+        ValidationResults results = new ValidationResults();
+        for (EmailCase emailCase : cases) {
+            long start = System.nanoTime();
+            newsletterPage.subscribeWithEmail(emailCase.getEmail());
+            Optional<String> outcome = DomWatcher.awaitFirstVisible(driver, outcomeTimeout, null,
+                    SUCCESS_MESSAGE, EMAIL_ERROR);
+            boolean accepted = outcome.filter(SUCCESS_MESSAGE::equals).isPresent();
+
+            if (accepted) {
+                successPage.clickDismissButton();
+            }
+            if (!newsletterPage.resetForm()) {
+                // In-place reset did not leave a clean form; fall back to a reload
+                driver.navigate().refresh();
+                results.countReload();
+            }
+            results.add(emailCase.getEmail(), emailCase.isExpectedValid(), accepted, System.nanoTime() - start);
+
+            if (results.size() % PROGRESS_INTERVAL == 0) {
+                log.info("Email sweep progress: {}", results);
+            }
+        }
+        return results;
+    }
+}
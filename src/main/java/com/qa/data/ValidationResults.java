@@ -0,0 +1,126 @@
+package com.qa.data;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ValidationResults - Columnar result set of an email validation sweep
+ * One primitive array per column keeps thousands of rows compact and cheap to scan
+ */
+public final class ValidationResults {
+
+    private static final int INITIAL_CAPACITY = 256;
+
+    private String[] emails = new String[INITIAL_CAPACITY];
+    private boolean[] expected = new boolean[INITIAL_CAPACITY];
+    private boolean[] accepted = new boolean[INITIAL_CAPACITY];
+    private long[] nanos = new long[INITIAL_CAPACITY];
+    private int size;
+    private int reloads;
+
+    /**
+     * Append one row
+     */
+    public void add(String email, boolean expectedValid, boolean wasAccepted, long durationNanos) {
+        if (size == emails.length) {
+            int capacity = size * 2;
+            emails = Arrays.copyOf(emails, capacity);
+            expected = Arrays.copyOf(expected, capacity);
+            accepted = Arrays.copyOf(accepted, capacity);
+            nanos = Arrays.copyOf(nanos, capacity);
+        }
+        emails[size] = email;
+        expected[size] = expectedValid;
+        accepted[size] = wasAccepted;
+        nanos[size] = durationNanos;
+        size++;
+    }
+
+    /**
+     * Count a case whose in-place reset failed and needed a full page reload
+     */
+    public void countReload() {
+        reloads++;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int getReloads() {
+        return reloads;
+    }
+
+    public String getEmail(int row) {
+        return emails[row];
+    }
+
+    public boolean isExpectedValid(int row) {
+        return expected[row];
+    }
+
+    public boolean isAccepted(int row) {
+        return accepted[row];
+    }
+
+    public long getNanos(int row) {
+        return nanos[row];
+    }
+
+    /**
+     * Rows where the form disagreed with the expected validity
+     */
+    public List<Integer> mismatches() {
+        List<Integer> rows = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            if (expected[i] != accepted[i]) {
+                rows.add(i);
+            }
+        }
+        return rows;
+    }
+
+    public long totalNanos() {
+        long total = 0;
+        for (int i = 0; i < size; i++) {
+            total += nanos[i];
+        }
+        return total;
+    }
+
+    /**
+     * Write all rows as CSV: email,expected,accepted,ms
+     */
+    public void writeCsv(Path file) {
+        try {
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            try (BufferedWriter out = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+                out.write("email,expected,accepted,ms");
+                out.newLine();
+                for (int i = 0; i < size; i++) {
+                    out.write('"' + emails[i].replace("\"", "\"\"") + "\"," + expected[i] + "," + accepted[i] + ","
+                            + TimeUnit.NANOSECONDS.toMicros(nanos[i]) / 1000.0);
+                    out.newLine();
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write sweep results to " + file, e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d cases, %d mismatches, %d reloads, %.1f ms avg", size, mismatches().size(), reloads,
+                size == 0 ? 0.0 : totalNanos() / (double) size / TimeUnit.MILLISECONDS.toNanos(1));
+    }
+}
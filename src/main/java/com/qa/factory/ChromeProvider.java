@@ -0,0 +1,75 @@
+package com.qa.factory;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.chromium.ChromiumOptions;
+
+/**
+ * ChromeProvider - Google Chrome, with CI/CD compatible launch options
+ */
+class ChromeProvider implements DriverProvider {
+
+    @Override
+    public String name() {
+        return "chrome";
+    }
+
+    @Override
+    public EngineLevel level() {
+        return EngineLevel.RENDERING;
+    }
+
+    @Override
+    public WebDriver launch() {
+        ChromeOptions options = configure(new ChromeOptions());
+        if (DriverFactory.isSharedServiceEnabled()) {
+            return new SharedServiceChromeDriver(DriverBinaries.sharedChromeService(), options);
+        }
+        DriverBinaries.chromeDriver();
+        return new ChromeDriver(options);
+    }
+
+    /**
+     * Launch options shared by Chromium-based browsers
+     */
+    static <T extends ChromiumOptions<?>> T configure(T options) {
+        // CI environment detection (or explicit -Dheadless=true)
+        if (DriverFactory.isHeadless()) {
+            options.addArguments("--headless=new");
+            options.addArguments("--no-sandbox");
+            options.addArguments("--disable-dev-shm-usage");
+            options.addArguments("--disable-gpu");
+            options.addArguments("--window-size=1920,1080");
+        }
+        // eager / none return from navigation early; page objects then wait for their critical elements
+        options.setPageLoadStrategy(DriverFactory.getPageLoadStrategy());
+
+        // Launch from a copy of a pre-seeded profile (first-run state, preferences, certificates)
+        String profileTemplate = System.getProperty("driver.profile.template");
+        if (profileTemplate != null) {
+            options.addArguments("--user-data-dir=" + DriverFactory.copyProfile(profileTemplate));
+        }
+
+        // Skip background services Chrome starts on launch (-Ddriver.launch.minimal=true)
+        if (Boolean.getBoolean("driver.launch.minimal")) {
+            options.addArguments("--no-first-run");
+            options.addArguments("--no-default-browser-check");
+            options.addArguments("--disable-background-networking");
+            options.addArguments("--disable-component-update");
+            options.addArguments("--disable-default-apps");
+            options.addArguments("--disable-sync");
+            options.addArguments("--metrics-recording-only");
+            options.addArguments("--mute-audio");
+            options.addArguments("--disable-features=Translate,OptimizationHints,MediaRouter");
+        }
+
+        // Common options for stability
+        options.addArguments("--disable-blink-features=AutomationControlled");
+        options.addArguments("--disable-extensions");
+        options.addArguments("--disable-popup-blocking");
+        options.setExperimentalOption("excludeSwitches", new String[]{"enable-automation"});
+
+        return options;
+    }
+}
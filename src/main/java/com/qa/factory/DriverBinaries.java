@@ -0,0 +1,248 @@
+package com.qa.factory;
+
+import io.github.bonigarcia.wdm.WebDriverManager;
+import org.openqa.selenium.chrome.ChromeDriverService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * DriverBinaries - Resolves the chromedriver executable once per JVM
+ * Resolved paths are remembered in a properties file keyed by the installed Chrome version,
+ * so later runs skip WebDriverManager entirely when Chrome is installed under a standard command
+ * (google-chrome, chromium, ...). With -Ddriver.offline=true the network
+ * is never touched: the cache, -Dwebdriver.chrome.driver or a chromedriver on PATH must provide it.
+ * Drivers of the other engines are set up by WebDriverManager, also once per JVM.
+ */
+final class DriverBinaries {
+
+    private static final Logger log = LoggerFactory.getLogger(DriverBinaries.class);
+    private static final String CHROME_DRIVER_PROPERTY = "webdriver.chrome.driver";
+    private static final String CACHE_FILE = "drivers.properties";
+    private static final Pattern VERSION = Pattern.compile("(\\d+\\.\\d+\\.\\d+\\.\\d+)");
+    private static final String[] CHROME_COMMANDS = {"google-chrome", "google-chrome-stable", "chromium", "chromium-browser"};
+    private static final long VERSION_PROBE_TIMEOUT_SECONDS = 5;
+
+    private static volatile Path chromeDriver;
+    private static ChromeDriverService sharedService;
+    private static final Set<String> managedDrivers = new HashSet<>();
+
+    private DriverBinaries() {
+    }
+
+    /**
+     * Path of the chromedriver executable, resolved on first call and memoized
+     */
+    static Path chromeDriver() {
+        Path resolved = chromeDriver;
+        if (resolved == null) {
+            synchronized (DriverBinaries.class) {
+                resolved = chromeDriver;
+                if (resolved == null) {
+                    long start = System.nanoTime();
+                    resolved = resolveChromeDriver();
+                    System.setProperty(CHROME_DRIVER_PROPERTY, resolved.toString());
+                    chromeDriver = resolved;
+                    log.info("Using chromedriver {} (resolved in {} ms)", resolved,
+                            TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+                }
+            }
+        }
+        return resolved;
+    }
+
+    /**
+     * One chromedriver process shared by every session, started on first call and stopped on JVM exit
+     */
+    static synchronized ChromeDriverService sharedChromeService() {
+        if (sharedService == null) {
+            ChromeDriverService service = new ChromeDriverService.Builder()
+                    .usingDriverExecutable(chromeDriver().toFile())
+                    .usingAnyFreePort()
+                    .build();
+            try {
+                service.start();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not start chromedriver service", e);
+            }
+            Runtime.getRuntime().addShutdownHook(new Thread(service::stop, "chromedriver-service-shutdown"));
+            sharedService = service;
+        }
+        return sharedService;
+    }
+
+    /**
+     * Let WebDriverManager set up the driver of a non-Chrome engine on first call; skipped offline,
+     * where the driver must be on PATH or configured with its webdriver.*.driver property
+     * @param name - driver name, e.g. geckodriver
+     */
+    static synchronized void managedDriver(String name, Supplier<WebDriverManager> manager) {
+        if (isOffline() || managedDrivers.contains(name)) {
+            return;
+        }
+        long start = System.nanoTime();
+        manager.get().setup();
+        managedDrivers.add(name);
+        log.info("Set up {} (resolved in {} ms)", name, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    static boolean isOffline() {
+        return Boolean.getBoolean("driver.offline");
+    }
+
+    private static Path resolveChromeDriver() {
+        String configured = System.getProperty(CHROME_DRIVER_PROPERTY);
+        if (configured != null && Files.isExecutable(Paths.get(configured))) {
+            return Paths.get(configured);
+        }
+
+        // Without a known version a cached entry could belong to an older Chrome, so the
+        // on-disk cache is neither read nor written
+        Optional<String> chromeVersion = detectChromeVersion();
+        String cacheKey = chromeVersion.map(version -> "chromedriver." + version).orElse(null);
+        Path cacheDir = cacheDir();
+        Properties cache = loadCache(cacheDir);
+
+        String cached = cacheKey == null ? null : cache.getProperty(cacheKey);
+        if (cached != null && Files.isExecutable(Paths.get(cached))) {
+            return Paths.get(cached);
+        }
+
+        if (isOffline()) {
+            return findOnPath("chromedriver").orElseThrow(() -> new IllegalStateException(
+                    "Offline mode: no cached chromedriver for Chrome " + chromeVersion.orElse("(version unknown)")
+                            + " in " + cacheDir + " and none on PATH. Run once online or set -D"
+                            + CHROME_DRIVER_PROPERTY));
+        }
+
+        WebDriverManager manager = WebDriverManager.chromedriver()
+                .cachePath(cacheDir.resolve("wdm").toString())
+                .avoidExport();
+        chromeVersion.map(DriverBinaries::majorVersion).ifPresent(manager::browserVersion);
+        manager.setup();
+        Path downloaded = Paths.get(manager.getDownloadedDriverPath());
+
+        if (cacheKey != null) {
+            cache.setProperty(cacheKey, downloaded.toString());
+            storeCache(cacheDir, cache);
+        }
+        return downloaded;
+    }
+
+    /**
+     * Installed Chrome version from -Dchrome.version or the browser's --version output
+     */
+    private static Optional<String> detectChromeVersion() {
+        String pinned = System.getProperty("chrome.version");
+        if (pinned != null) {
+            return Optional.of(pinned);
+        }
+        for (String command : CHROME_COMMANDS) {
+            Optional<String> version = probeVersion(command);
+            if (version.isPresent()) {
+                return version;
+            }
+        }
+        // Only for non-standard installs: WebDriverManager may fetch its browser command database,
+        // so it is consulted last and never offline
+        if (!isOffline()) {
+            Optional<Path> browser = WebDriverManager.chromedriver().getBrowserPath();
+            if (browser.isPresent()) {
+                return probeVersion(browser.get().toString());
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * 120 for 120.0.6099.109, and for a pinned -Dchrome.version=120
+     */
+    private static String majorVersion(String version) {
+        int dot = version.indexOf('.');
+        return dot < 0 ? version : version.substring(0, dot);
+    }
+
+    private static Optional<String> probeVersion(String command) {
+        try {
+            Process process = new ProcessBuilder(command, "--version").redirectErrorStream(true).start();
+            if (!process.waitFor(VERSION_PROBE_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+                return Optional.empty();
+            }
+            String output = new String(process.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+            Matcher matcher = VERSION.matcher(output);
+            return matcher.find() ? Optional.of(matcher.group(1)) : Optional.empty();
+        } catch (IOException e) {
+            return Optional.empty();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Optional.empty();
+        }
+    }
+
+    private static Optional<Path> findOnPath(String executable) {
+        String path = System.getenv("PATH");
+        if (path == null) {
+            return Optional.empty();
+        }
+        for (String dir : path.split(File.pathSeparator)) {
+            for (String name : new String[]{executable, executable + ".exe"}) {
+                Path candidate = Paths.get(dir, name);
+                if (Files.isExecutable(candidate)) {
+                    return Optional.of(candidate);
+                }
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static Path cacheDir() {
+        return Paths.get(System.getProperty("driver.cache.dir",
+                Paths.get(System.getProperty("user.home"), ".cache", "selenium-project").toString()));
+    }
+
+    private static Properties loadCache(Path cacheDir) {
+        Properties cache = new Properties();
+        Path file = cacheDir.resolve(CACHE_FILE);
+        if (Files.exists(file)) {
+            try (InputStream in = Files.newInputStream(file)) {
+                cache.load(in);
+            } catch (IOException e) {
+                log.warn("Ignoring unreadable driver cache {}: {}", file, e.getMessage());
+            }
+        }
+        return cache;
+    }
+
+    private static void storeCache(Path cacheDir, Properties cache) {
+        try {
+            Files.createDirectories(cacheDir);
+            Path tmp = Files.createTempFile(cacheDir, CACHE_FILE, ".tmp");
+            try (OutputStream out = Files.newOutputStream(tmp)) {
+                cache.store(out, "Resolved driver binaries by browser version");
+            }
+            Files.move(tmp, cacheDir.resolve(CACHE_FILE), StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.warn("Could not update driver cache in {}: {}", cacheDir, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.qa.factory;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.OperatingSystemMXBean;
+
+/**
+ * DriverBudget - Decides how many browsers may run at the same time
+ * The budget is capped by available cores and by free physical memory,
+ * and can be pinned explicitly with -Ddriver.max.browsers
+ */
+public final class DriverBudget {
+
+    private static final int DEFAULT_MEMORY_PER_BROWSER_MB = 512;
+
+    private DriverBudget() {
+    }
+
+    /**
+     * Maximum number of concurrent browser sessions for this machine
+     */
+    public static int maxConcurrentBrowsers() {
+        Integer pinned = Integer.getInteger("driver.max.browsers");
+        if (pinned != null) {
+            return Math.max(1, pinned);
+        }
+        int byCores = Runtime.getRuntime().availableProcessors();
+        return Math.max(1, Math.min(byCores, byMemory()));
+    }
+
+    /**
+     * Number of browsers that fit into free physical memory
+     */
+    @SuppressWarnings("deprecation")
+    private static int byMemory() {
+        long perBrowserBytes = Long.getLong("driver.memory.per.browser.mb", DEFAULT_MEMORY_PER_BROWSER_MB)
+                * 1024L * 1024L;
+        OperatingSystemMXBean os = ManagementFactory.getOperatingSystemMXBean();
+        if (os instanceof com.sun.management.OperatingSystemMXBean) {
+            long free = ((com.sun.management.OperatingSystemMXBean) os).getFreePhysicalMemorySize();
+            return (int) Math.min(Integer.MAX_VALUE, free / perBrowserBytes);
+        }
+        return Integer.MAX_VALUE;
+    }
+}
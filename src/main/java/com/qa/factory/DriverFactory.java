@@ -1,11 +1,35 @@
 package com.qa.factory;
 
-import io.github.bonigarcia.wdm.WebDriverManager;
+import com.qa.config.TestTarget;
+import com.qa.metrics.CommandMetrics;
+import com.qa.metrics.CommandTimingListener;
+import com.qa.metrics.CommandTrace;
+import com.qa.metrics.CommandTraceListener;
+import org.openqa.selenium.PageLoadStrategy;
 import org.openqa.selenium.WebDriver;
-import org.openqa.selenium.chrome.ChromeDriver;
-import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.support.events.EventFiringDecorator;
+import org.openqa.selenium.support.events.WebDriverListener;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Queue;
+import java.util.ServiceLoader;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.stream.Stream;
 
 /**
  * DriverFactory - Manages WebDriver instantiation and configuration
@@ -14,51 +38,221 @@ import java.time.Duration;
 public class DriverFactory {
 
     private static final ThreadLocal<WebDriver> driver = new ThreadLocal<>();
-    private static final int IMPLICIT_WAIT_SECONDS = 10;
+    private static final ThreadLocal<Engine> currentEngine = new ThreadLocal<>();
     private static final int PAGE_LOAD_TIMEOUT_SECONDS = 30;
+    private static final String DEFAULT_BROWSER = "chrome";
+    // Built on the first launch, so a configuration error fails that launch with its own message
+    private static NetworkProfile networkProfile;
+
+    // Built-in engines; implementations listed in META-INF/services may add or replace them
+    private static final Map<String, DriverProvider> providers = new LinkedHashMap<>();
+    // One session pool per engine, created on first use
+    private static final ConcurrentMap<String, Engine> engines = new ConcurrentHashMap<>();
+
+    // Per-session copies of the -Ddriver.profile.template directory, removed at JVM exit
+    private static final Queue<Path> profileCopies = new ConcurrentLinkedQueue<>();
+
+    static {
+        for (DriverProvider provider : Arrays.asList(
+                new ChromeProvider(), new FirefoxProvider(), new EdgeProvider(), new HtmlUnitProvider())) {
+            providers.put(provider.name(), provider);
+        }
+        for (DriverProvider provider : ServiceLoader.load(DriverProvider.class)) {
+            providers.put(provider.name().toLowerCase(Locale.ROOT), provider);
+        }
+        Runtime.getRuntime().addShutdownHook(new Thread(DriverFactory::shutdown, "driver-pool-shutdown"));
+    }
+
+    /**
+     * Start launching browsers in the background so the first tests find a session ready
+     * Uses the -Dbrowser engine; safe to call more than once: only free pool slots are filled,
+     * counting sessions that are checked out, idle or still launching
+     * @param sessions - number of browsers to launch
+     */
+    public static void prewarm(int sessions) {
+        if (sessions > 0) {
+            engine(System.getProperty("browser", DEFAULT_BROWSER)).pool.prewarm(sessions);
+        }
+    }
+
+    /**
+     * Quit the browsers started by {@link #prewarm(int)}, e.g. when the tests turn out not to need -Dbrowser
+     */
+    public static void discardPrewarmed() {
+        Engine engine = engines.get(provider(System.getProperty("browser", DEFAULT_BROWSER)).name());
+        if (engine != null) {
+            engine.pool.discardPrewarmed();
+        }
+    }
 
     /**
      * Initialize WebDriver based on browser type
-     * @param browser - chrome, firefox, or edge
+     * Checks a live session out of the engine's pool, launching a browser only when none is idle
+     * @param browser - chrome, firefox, edge or htmlunit (or a plugged-in provider)
      * @return WebDriver instance
      */
     public static WebDriver initializeDriver(String browser) {
-        WebDriver webDriver;
+        Engine selected = engine(browser);
+        WebDriver webDriver = selected.pool.checkout();
+        driver.set(webDriver);
+        currentEngine.set(selected);
+        return webDriver;
+    }
 
+    /**
+     * Quit every idle pooled session; also runs at JVM exit
+     * For programs that must not keep browsers alive after their work is done
+     */
+    public static void shutdown() {
+        engines.values().forEach(Engine::shutdown);
+        Path profileCopy;
+        while ((profileCopy = profileCopies.poll()) != null) {
+            deleteQuietly(profileCopy);
+        }
+    }
+
+    /**
+     * Capability level of a browser engine, for matching against a test's minimum requirement
+     * @param browser - engine name as passed to {@link #initializeDriver(String)}
+     */
+    public static EngineLevel engineLevel(String browser) {
+        return provider(browser).level();
+    }
+
+    private static DriverProvider provider(String browser) {
+        DriverProvider provider = providers.get(browser.toLowerCase(Locale.ROOT));
+        if (provider == null) {
+            throw new IllegalArgumentException("Unknown browser '" + browser + "', available: " + providers.keySet());
+        }
+        return provider;
+    }
+
+    private static Engine engine(String browser) {
+        DriverProvider provider = provider(browser);
+        return engines.computeIfAbsent(provider.name(), name -> new Engine(provider));
+    }
+
+    /**
+     * Create a new test session in its own browser
+     */
+    private static WebDriver createDriver(DriverProvider provider) {
+        WebDriver webDriver = launchBrowser(provider);
+
+        // Keep a command trace for failure artifacts (-Dartifacts.trace), time every command
+        // (-Ddriver.metrics=true) and slow interactions down for watching a run (-Dslowmo.ms);
+        // with none enabled the raw driver is returned
+        List<WebDriverListener> listeners = new ArrayList<>();
+        if (CommandTrace.isEnabled()) {
+            listeners.add(new CommandTraceListener());
+        }
+        if (CommandMetrics.isEnabled()) {
+            listeners.add(new CommandTimingListener());
+        }
+        long slowMotionMillis = SlowMotionListener.configuredDelay();
+        if (slowMotionMillis > 0) {
+            listeners.add(new SlowMotionListener(slowMotionMillis));
+        }
+        if (!listeners.isEmpty()) {
+            webDriver = new EventFiringDecorator<>(listeners.toArray(new WebDriverListener[0])).decorate(webDriver);
+        }
+
+        return webDriver;
+    }
 
-                WebDriverManager.chromedriver().setup();
-                webDriver = new ChromeDriver(getChromeOptions());
+    /**
+     * Launch a new browser process
+     */
+    private static WebDriver launchBrowser(DriverProvider provider) {
+        WebDriver webDriver = provider.launch();
 
-        // Configure timeouts
-        webDriver.manage().timeouts().implicitlyWait(Duration.ofSeconds(IMPLICIT_WAIT_SECONDS));
+        // Configure timeouts; no implicit wait so absence checks return immediately (see WaitEngine)
+        webDriver.manage().timeouts().implicitlyWait(Duration.ZERO);
         webDriver.manage().timeouts().pageLoadTimeout(Duration.ofSeconds(PAGE_LOAD_TIMEOUT_SECONDS));
         webDriver.manage().window().maximize();
 
-        driver.set(webDriver);
+        // Block or stub resources the tests do not need (-Dnetwork.profile)
+        NetworkProfile profile = networkProfile();
+        if (profile != null) {
+            profile.applyTo(webDriver);
+        }
+
         return webDriver;
     }
 
     /**
-     * Get ChromeOptions with CI/CD compatible settings
+     * The -Dnetwork.profile, with its asset cache warmed from the page under test; null when off
+     */
+    private static synchronized NetworkProfile networkProfile() {
+        if (networkProfile == null && NetworkProfile.isEnabled()) {
+            NetworkProfile profile = NetworkProfile.fromSystemProperties();
+            profile.warmCache(TestTarget.baseUrl());
+            networkProfile = profile;
+        }
+        return networkProfile;
+    }
+
+    /**
+     * Page load strategy for new sessions (-Dpage.load.strategy=normal|eager|none, default normal)
+     */
+    public static PageLoadStrategy getPageLoadStrategy() {
+        String value = System.getProperty("page.load.strategy", "normal");
+        PageLoadStrategy strategy = PageLoadStrategy.fromString(value.toLowerCase(Locale.ROOT));
+        if (strategy == null) {
+            throw new IllegalArgumentException("Unknown page.load.strategy: " + value);
+        }
+        return strategy;
+    }
+
+    /**
+     * Copy the profile template into a fresh directory; Chrome locks a user-data-dir per process
      */
-    private static ChromeOptions getChromeOptions() {
-        ChromeOptions options = new ChromeOptions();
+    static Path copyProfile(String templateDir) {
+        Path template = Paths.get(templateDir);
+        try (Stream<Path> files = Files.walk(template)) {
+            Path copy = Files.createTempDirectory("chrome-profile-");
+            profileCopies.add(copy);
+            for (Path source : (Iterable<Path>) files::iterator) {
+                Path target = copy.resolve(template.relativize(source).toString());
+                if (Files.isDirectory(source)) {
+                    Files.createDirectories(target);
+                } else if (!source.getFileName().toString().startsWith("Singleton")) {
+                    // Singleton* lock files of the browser that seeded the template must not be copied
+                    Files.copy(source, target, StandardCopyOption.REPLACE_EXISTING);
+                }
+            }
+            return copy;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not copy profile template " + template, e);
+        }
+    }
 
-        // CI environment detection
-        if (isCI()) {
-            options.addArguments("--headless=new");
-            options.addArguments("--no-sandbox");
-            options.addArguments("--disable-dev-shm-usage");
-            options.addArguments("--disable-gpu");
-            options.addArguments("--window-size=1920,1080");
+    private static void deleteQuietly(Path directory) {
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        } catch (IOException e) {
+            // Temporary directory; leaving it behind is harmless
         }
-        // Common options for stability
-        options.addArguments("--disable-blink-features=AutomationControlled");
-        options.addArguments("--disable-extensions");
-        options.addArguments("--disable-popup-blocking");
-        options.setExperimentalOption("excludeSwitches", new String[]{"enable-automation"});
+    }
 
-        return options;
+    /**
+     * Check if sessions should be reused between tests (enabled by default)
+     */
+    private static boolean isReuseEnabled() {
+        return Boolean.parseBoolean(System.getProperty("driver.reuse", "true"));
+    }
+
+    /**
+     * Check if one chromedriver process should serve every session
+     */
+    static boolean isSharedServiceEnabled() {
+        return Boolean.getBoolean("driver.service.shared");
+    }
+
+    /**
+     * Check if browsers should run headless: in CI or with -Dheadless=true
+     */
+    static boolean isHeadless() {
+        return isCI() || Boolean.getBoolean("headless");
     }
 
     /**
@@ -68,6 +262,7 @@ public class DriverFactory {
         return System.getenv("CI") != null ||
                 System.getProperty("CI") != null;
     }
+
     /**
      * Get the current driver from ThreadLocal
      */
@@ -75,13 +270,50 @@ public class DriverFactory {
         return driver.get();
     }
 
+    /**
+     * Release driver back to the pool and remove from ThreadLocal
+     * The session is reset and kept alive for the next test unless reuse is disabled
+     */
+    public static void releaseDriver() {
+        WebDriver webDriver = driver.get();
+        if (webDriver != null) {
+            Engine engine = currentEngine.get();
+            driver.remove();
+            currentEngine.remove();
+            if (isReuseEnabled()) {
+                engine.pool.release(webDriver);
+            } else {
+                engine.pool.evict(webDriver);
+            }
+        }
+    }
+
     /**
      * Quit driver and remove from ThreadLocal
      */
     public static void quitDriver() {
-        if (driver.get() != null) {
-            driver.get().quit();
+        WebDriver webDriver = driver.get();
+        if (webDriver != null) {
+            Engine engine = currentEngine.get();
             driver.remove();
+            currentEngine.remove();
+            engine.pool.evict(webDriver);
+        }
+    }
+
+    /**
+     * Session pool of one engine
+     */
+    private static final class Engine {
+        private final SessionPool pool;
+
+        Engine(DriverProvider provider) {
+            this.pool = new SessionPool(Integer.getInteger("driver.pool.size", DriverBudget.maxConcurrentBrowsers()),
+                    () -> createDriver(provider));
+        }
+
+        void shutdown() {
+            pool.shutdown();
         }
     }
 }
@@ -0,0 +1,26 @@
+package com.qa.factory;
+
+import org.openqa.selenium.WebDriver;
+
+/**
+ * DriverProvider - Launches one kind of browser engine
+ * Built-in providers: chrome, firefox, edge and htmlunit. More can be plugged in
+ * by listing implementations in META-INF/services/com.qa.factory.DriverProvider
+ */
+public interface DriverProvider {
+
+    /**
+     * Name selected with -Dbrowser
+     */
+    String name();
+
+    /**
+     * What the engine can do, matched against a test's minimum requirement
+     */
+    EngineLevel level();
+
+    /**
+     * Launch a new browser; DriverFactory applies timeouts, window size and the network profile
+     */
+    WebDriver launch();
+}
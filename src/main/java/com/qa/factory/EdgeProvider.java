@@ -0,0 +1,28 @@
+package com.qa.factory;
+
+import io.github.bonigarcia.wdm.WebDriverManager;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.edge.EdgeDriver;
+import org.openqa.selenium.edge.EdgeOptions;
+
+/**
+ * EdgeProvider - Microsoft Edge, launched with the same Chromium options as Chrome
+ */
+class EdgeProvider implements DriverProvider {
+
+    @Override
+    public String name() {
+        return "edge";
+    }
+
+    @Override
+    public EngineLevel level() {
+        return EngineLevel.RENDERING;
+    }
+
+    @Override
+    public WebDriver launch() {
+        DriverBinaries.managedDriver("msedgedriver", WebDriverManager::edgedriver);
+        return new EdgeDriver(ChromeProvider.configure(new EdgeOptions()));
+    }
+}
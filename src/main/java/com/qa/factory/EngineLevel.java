@@ -0,0 +1,18 @@
+package com.qa.factory;
+
+/**
+ * EngineLevel - What a browser engine can be trusted with
+ * DOM engines parse HTML and run scripts but do not lay out or paint the page;
+ * RENDERING engines are real browsers
+ */
+public enum EngineLevel {
+    DOM,
+    RENDERING;
+
+    /**
+     * Check if this engine is good enough for a test that requires the given level
+     */
+    public boolean satisfies(EngineLevel required) {
+        return compareTo(required) >= 0;
+    }
+}
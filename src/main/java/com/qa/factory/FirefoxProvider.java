@@ -0,0 +1,34 @@
+package com.qa.factory;
+
+import io.github.bonigarcia.wdm.WebDriverManager;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.firefox.FirefoxDriver;
+import org.openqa.selenium.firefox.FirefoxOptions;
+
+/**
+ * FirefoxProvider - Mozilla Firefox via geckodriver
+ */
+class FirefoxProvider implements DriverProvider {
+
+    @Override
+    public String name() {
+        return "firefox";
+    }
+
+    @Override
+    public EngineLevel level() {
+        return EngineLevel.RENDERING;
+    }
+
+    @Override
+    public WebDriver launch() {
+        DriverBinaries.managedDriver("geckodriver", WebDriverManager::firefoxdriver);
+        FirefoxOptions options = new FirefoxOptions();
+        if (DriverFactory.isHeadless()) {
+            options.addArguments("-headless");
+            options.addArguments("--width=1920", "--height=1080");
+        }
+        options.setPageLoadStrategy(DriverFactory.getPageLoadStrategy());
+        return new FirefoxDriver(options);
+    }
+}
@@ -0,0 +1,28 @@
+package com.qa.factory;
+
+import org.htmlunit.BrowserVersion;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.htmlunit.HtmlUnitDriver;
+
+/**
+ * HtmlUnitProvider - In-process, non-rendering engine for DOM-only checks
+ * Starts in milliseconds and needs no browser binary; runs the page's JavaScript
+ * but has no layout, so visibility is approximated from CSS
+ */
+class HtmlUnitProvider implements DriverProvider {
+
+    @Override
+    public String name() {
+        return "htmlunit";
+    }
+
+    @Override
+    public EngineLevel level() {
+        return EngineLevel.DOM;
+    }
+
+    @Override
+    public WebDriver launch() {
+        return new HtmlUnitDriver(BrowserVersion.CHROME, true);
+    }
+}
@@ -0,0 +1,324 @@
+package com.qa.factory;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.devtools.NetworkInterceptor;
+import org.openqa.selenium.remote.http.Contents;
+import org.openqa.selenium.remote.http.Filter;
+import org.openqa.selenium.remote.http.HttpMethod;
+import org.openqa.selenium.remote.http.HttpRequest;
+import org.openqa.selenium.remote.http.HttpResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * NetworkProfile - Request interception applied to each session when it is created
+ * Uses CDP request interception (Chromium only) to
+ * - answer requests for blocked resource types or URL patterns locally with an empty stub
+ *   (a 1x1 transparent GIF for images, so layout and visibility checks are unaffected)
+ * - serve selected static assets from a JVM-wide in-memory cache, filled by {@link #warmCache(String)}
+ *   before the first session; the interception filter itself never goes to the network
+ *
+ * Configured with system properties:
+ * network.profile (off | minimal), network.block.types, network.block.urls, network.cache.urls
+ */
+public final class NetworkProfile {
+
+    private static final Logger log = LoggerFactory.getLogger(NetworkProfile.class);
+
+    private static final String MINIMAL_BLOCK_TYPES = "font,image,media";
+    private static final String MINIMAL_BLOCK_URLS =
+            "*google-analytics.com*,*googletagmanager.com*,*doubleclick.net*,*facebook.net*,*hotjar.com*";
+    private static final String MINIMAL_CACHE_URLS = "*.css,*.js";
+    // href / src attributes of the page under test, for warming the asset cache
+    private static final Pattern ASSET_REFERENCE =
+            Pattern.compile("(?:href|src)\\s*=\\s*[\"']([^\"'#]+)", Pattern.CASE_INSENSITIVE);
+    private static final byte[] TRANSPARENT_GIF =
+            Base64.getDecoder().decode("R0lGODlhAQABAIAAAAAAAP///yH5BAEAAAAALAAAAAABAAEAAAIBRAA7");
+
+    private static final ConcurrentMap<String, CachedAsset> assetCache = new ConcurrentHashMap<>();
+    private static final HttpClient fetcher = HttpClient.newBuilder()
+            .followRedirects(HttpClient.Redirect.NORMAL)
+            .connectTimeout(Duration.ofSeconds(10))
+            .build();
+
+    /**
+     * Resource type inferred from the URL extension and Accept header
+     */
+    public enum ResourceType {
+        DOCUMENT, STYLESHEET, SCRIPT, IMAGE, FONT, MEDIA, OTHER;
+
+        static ResourceType of(HttpRequest request) {
+            String path = URI.create(request.getUri()).getPath().toLowerCase(Locale.ROOT);
+            String accept = String.valueOf(request.getHeader("Accept")).toLowerCase(Locale.ROOT);
+            if (path.matches(".*\\.(woff2?|ttf|otf|eot)$") || accept.startsWith("font/")) {
+                return FONT;
+            } else if (path.matches(".*\\.(png|jpe?g|gif|svg|webp|avif|ico)$") || accept.startsWith("image/")) {
+                return IMAGE;
+            } else if (path.matches(".*\\.(mp4|webm|ogg|mp3|wav)$") || accept.startsWith("video/")
+                    || accept.startsWith("audio/")) {
+                return MEDIA;
+            } else if (path.endsWith(".css") || accept.startsWith("text/css")) {
+                return STYLESHEET;
+            } else if (path.endsWith(".js")) {
+                return SCRIPT;
+            } else if (accept.startsWith("text/html")) {
+                return DOCUMENT;
+            }
+            return OTHER;
+        }
+    }
+
+    private final Set<ResourceType> blockedTypes;
+    private final List<Pattern> blockedUrls;
+    private final List<Pattern> cachedUrls;
+    private final AtomicLong blocked = new AtomicLong();
+    private final AtomicLong cacheHits = new AtomicLong();
+
+    private NetworkProfile(Set<ResourceType> blockedTypes, List<Pattern> blockedUrls, List<Pattern> cachedUrls) {
+        // The page under test itself is never blocked
+        blockedTypes.remove(ResourceType.DOCUMENT);
+        this.blockedTypes = blockedTypes;
+        this.blockedUrls = blockedUrls;
+        this.cachedUrls = cachedUrls;
+    }
+
+    /**
+     * Check if a profile is selected with -Dnetwork.profile
+     */
+    public static boolean isEnabled() {
+        return !"off".equals(System.getProperty("network.profile", "off"));
+    }
+
+    /**
+     * Profile built from system properties; "minimal" supplies defaults for any list not given explicitly
+     */
+    public static NetworkProfile fromSystemProperties() {
+        boolean minimal = "minimal".equals(System.getProperty("network.profile"));
+        String types = System.getProperty("network.block.types", minimal ? MINIMAL_BLOCK_TYPES : "");
+        String blockUrls = System.getProperty("network.block.urls", minimal ? MINIMAL_BLOCK_URLS : "");
+        String cacheUrls = System.getProperty("network.cache.urls", minimal ? MINIMAL_CACHE_URLS : "");
+
+        Set<ResourceType> blockedTypes = EnumSet.noneOf(ResourceType.class);
+        for (String type : split(types)) {
+            blockedTypes.add(blockableType(type));
+        }
+        return new NetworkProfile(blockedTypes, globs(blockUrls), globs(cacheUrls));
+    }
+
+    /**
+     * Resource type named in -Dnetwork.block.types; the page document itself cannot be blocked
+     * @throws IllegalArgumentException naming the allowed values
+     */
+    private static ResourceType blockableType(String name) {
+        List<String> allowed = new ArrayList<>();
+        for (ResourceType type : ResourceType.values()) {
+            if (type != ResourceType.DOCUMENT) {
+                if (type.name().equalsIgnoreCase(name)) {
+                    return type;
+                }
+                allowed.add(type.name().toLowerCase(Locale.ROOT));
+            }
+        }
+        throw new IllegalArgumentException("Unknown network.block.types value '" + name + "', allowed: "
+                + String.join(", ", allowed));
+    }
+
+    /**
+     * Fetch the assets a page references (href / src) that match network.cache.urls into the
+     * in-memory cache, so intercepted requests for them are answered without a network round trip
+     * Assets that cannot be fetched are left to the browser.
+     * @param pageUrl - page under test
+     */
+    public void warmCache(String pageUrl) {
+        if (cachedUrls.isEmpty()) {
+            return;
+        }
+        CachedAsset page = fetch(pageUrl);
+        if (page == null) {
+            log.warn("Asset cache not warmed: {} could not be fetched", pageUrl);
+            return;
+        }
+        URI base = URI.create(pageUrl);
+        Matcher reference = ASSET_REFERENCE.matcher(new String(page.body, StandardCharsets.UTF_8));
+        int warmed = 0;
+        while (reference.find()) {
+            String url;
+            try {
+                url = base.resolve(reference.group(1).trim()).toString();
+            } catch (IllegalArgumentException e) {
+                continue;
+            }
+            if (matchesAny(cachedUrls, url) && !assetCache.containsKey(url)) {
+                CachedAsset asset = fetch(url);
+                if (asset != null) {
+                    assetCache.put(url, asset);
+                    warmed++;
+                }
+            }
+        }
+        log.info("Asset cache warmed with {} asset(s) of {}", warmed, pageUrl);
+    }
+
+    /**
+     * Install the profile on a session; sessions without DevTools support are left untouched
+     */
+    public void applyTo(WebDriver webDriver) {
+        if (!(webDriver instanceof HasDevTools)) {
+            log.warn("Network profile skipped: {} does not support DevTools", webDriver.getClass().getSimpleName());
+            return;
+        }
+        try {
+            new NetworkInterceptor(webDriver, filter());
+            log.info("Network profile active: block types {}, block urls {}, cache urls {}",
+                    blockedTypes, blockedUrls, cachedUrls);
+        } catch (RuntimeException e) {
+            log.warn("Network profile could not be installed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Number of requests answered with a stub so far
+     */
+    public long getBlockedCount() {
+        return blocked.get();
+    }
+
+    /**
+     * Number of requests answered from the in-memory asset cache so far
+     */
+    public long getCacheHits() {
+        return cacheHits.get();
+    }
+
+    private Filter filter() {
+        return next -> request -> {
+            String url = request.getUri();
+            ResourceType type = ResourceType.of(request);
+
+            if (blockedTypes.contains(type) || matchesAny(blockedUrls, url)) {
+                long count = blocked.incrementAndGet();
+                log.info("Blocked {} {} (total blocked: {})", type, url, count);
+                return stub(type);
+            }
+            // Runs on the DevTools event thread: only answer from memory, never fetch here
+            if (request.getMethod() == HttpMethod.GET && matchesAny(cachedUrls, url)) {
+                CachedAsset asset = assetCache.get(url);
+                if (asset != null) {
+                    cacheHits.incrementAndGet();
+                    return asset.toResponse();
+                }
+            }
+            return next.execute(request);
+        };
+    }
+
+    private static HttpResponse stub(ResourceType type) {
+        HttpResponse response = new HttpResponse().setStatus(200);
+        if (type == ResourceType.IMAGE) {
+            response.setHeader("Content-Type", "image/gif");
+            response.setContent(Contents.bytes(TRANSPARENT_GIF));
+        } else {
+            response.setContent(Contents.empty());
+        }
+        return response;
+    }
+
+    /**
+     * Fetch a page or asset outside the browser; null lets the browser load it itself
+     */
+    private static CachedAsset fetch(String url) {
+        try {
+            java.net.http.HttpResponse<byte[]> response = fetcher.send(
+                    java.net.http.HttpRequest.newBuilder(URI.create(url)).GET().build(),
+                    java.net.http.HttpResponse.BodyHandlers.ofByteArray());
+            if (response.statusCode() != 200) {
+                return null;
+            }
+            return new CachedAsset(response.headers().firstValue("Content-Type").orElse(""), response.body());
+        } catch (IOException | IllegalArgumentException e) {
+            log.debug("Not caching {}: {}", url, e.getMessage());
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+
+    private static boolean matchesAny(List<Pattern> patterns, String url) {
+        for (Pattern pattern : patterns) {
+            if (pattern.matcher(url).matches()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static List<String> split(String csv) {
+        List<String> values = new ArrayList<>();
+        for (String value : csv.split(",")) {
+            if (!value.isBlank()) {
+                values.add(value.trim());
+            }
+        }
+        return values;
+    }
+
+    /**
+     * Comma separated globs (* matches anything) to regular expressions
+     */
+    private static List<Pattern> globs(String csv) {
+        List<Pattern> patterns = new ArrayList<>();
+        for (String glob : split(csv)) {
+            StringBuilder regex = new StringBuilder();
+            for (String part : glob.split("\\*", -1)) {
+                if (regex.length() > 0) {
+                    regex.append(".*");
+                }
+                regex.append(Pattern.quote(part));
+            }
+            patterns.add(Pattern.compile(regex.toString()));
+        }
+        return Collections.unmodifiableList(patterns);
+    }
+
+    /**
+     * Asset body and content type held in memory
+     */
+    private static final class CachedAsset {
+        private final String contentType;
+        private final byte[] body;
+
+        CachedAsset(String contentType, byte[] body) {
+            this.contentType = contentType;
+            this.body = body;
+        }
+
+        HttpResponse toResponse() {
+            HttpResponse response = new HttpResponse().setStatus(200);
+            if (!contentType.isEmpty()) {
+                response.setHeader("Content-Type", contentType);
+            }
+            response.setContent(Contents.bytes(body));
+            return response;
+        }
+    }
+}
@@ -0,0 +1,236 @@
+package com.qa.factory;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * SessionPool - Bounded pool of live WebDriver sessions
+ * Sessions are checked out per test, reset on release and reused,
+ * so browser startup is paid once per pooled session instead of once per test.
+ * Checked-out, idle and launching sessions together never exceed the pool size
+ */
+class SessionPool {
+
+    private static final Logger log = LoggerFactory.getLogger(SessionPool.class);
+    private static final String BLANK_PAGE = "about:blank";
+    private static final long LAUNCH_POLL_MILLIS = 100;
+
+    private final Supplier<WebDriver> factory;
+    private final int maxSize;
+    private final Semaphore permits;
+    private final LinkedBlockingDeque<WebDriver> idle = new LinkedBlockingDeque<>();
+    private final AtomicInteger launching = new AtomicInteger();
+    // Sessions that exist or are being launched, whether checked out or idle
+    private final AtomicInteger live = new AtomicInteger();
+    private volatile boolean prewarmDiscarded;
+
+    SessionPool(int maxSize, Supplier<WebDriver> factory) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("Pool size must be at least 1, was " + maxSize);
+        }
+        this.maxSize = maxSize;
+        this.factory = factory;
+        this.permits = new Semaphore(maxSize, true);
+    }
+
+    /**
+     * Launch up to count sessions on background threads; each joins the idle pool as soon as it is up
+     * Only free pool slots are used, so repeated calls never exceed the pool size.
+     * Checkouts that find the pool empty wait for an in-flight launch instead of starting another browser
+     */
+    void prewarm(int count) {
+        for (int i = 0; i < count && reserve(); i++) {
+            launching.incrementAndGet();
+            Thread launcher = new Thread(() -> {
+                long start = System.nanoTime();
+                try {
+                    WebDriver session = factory.get();
+                    idle.offerLast(session);
+                    // Checked after offering, so a session is never left behind by a concurrent discard
+                    if (prewarmDiscarded && idle.remove(session)) {
+                        retire(session);
+                        return;
+                    }
+                    log.info("Pre-warmed browser session ready after {} ms",
+                            TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+                } catch (RuntimeException e) {
+                    live.decrementAndGet();
+                    log.warn("Pre-warming a browser session failed: {}", e.getMessage());
+                } finally {
+                    launching.decrementAndGet();
+                }
+            }, "driver-prewarm-" + i);
+            launcher.setDaemon(true);
+            launcher.start();
+        }
+    }
+
+    /**
+     * Quit the pre-warmed sessions before any test used them, including those still launching
+     */
+    void discardPrewarmed() {
+        prewarmDiscarded = true;
+        shutdown();
+    }
+
+    /**
+     * Check out a healthy session, creating one if no idle session is available.
+     * Blocks while the pool is at capacity.
+     */
+    WebDriver checkout() {
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a browser session", e);
+        }
+        try {
+            WebDriver candidate;
+            while ((candidate = nextIdle()) != null) {
+                if (isHealthy(candidate)) {
+                    return candidate;
+                }
+                log.warn("Evicting crashed browser session");
+                retire(candidate);
+            }
+            // nextIdle reserved a slot for a new session
+            try {
+                return factory.get();
+            } catch (RuntimeException e) {
+                live.decrementAndGet();
+                throw e;
+            }
+        } catch (InterruptedException e) {
+            permits.release();
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a browser session", e);
+        } catch (RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Next idle session, waiting while pre-warmed sessions are still launching;
+     * null once a slot for a new session has been reserved
+     */
+    private WebDriver nextIdle() throws InterruptedException {
+        WebDriver candidate = idle.pollFirst();
+        while (candidate == null) {
+            if (launching.get() == 0 && reserve()) {
+                return null;
+            }
+            // A launch is in flight or every slot is taken; since this caller holds a permit,
+            // at least one of those sessions will turn up idle
+            candidate = idle.pollFirst(LAUNCH_POLL_MILLIS, TimeUnit.MILLISECONDS);
+        }
+        return candidate;
+    }
+
+    /**
+     * Claim a slot for one more session; false if the pool is full
+     */
+    private boolean reserve() {
+        int current;
+        do {
+            current = live.get();
+            if (current >= maxSize) {
+                return false;
+            }
+        } while (!live.compareAndSet(current, current + 1));
+        return true;
+    }
+
+    /**
+     * Reset a session and return it to the pool; sessions that fail to reset are evicted
+     */
+    void release(WebDriver webDriver) {
+        try {
+            reset(webDriver);
+            idle.offerFirst(webDriver);
+        } catch (WebDriverException e) {
+            log.warn("Evicting browser session that failed to reset: {}", e.getMessage());
+            retire(webDriver);
+        } finally {
+            permits.release();
+        }
+    }
+
+    /**
+     * Quit a checked-out session instead of returning it to the pool
+     */
+    void evict(WebDriver webDriver) {
+        try {
+            retire(webDriver);
+        } finally {
+            permits.release();
+        }
+    }
+
+    /**
+     * Quit every idle session
+     */
+    void shutdown() {
+        List<WebDriver> drained = new ArrayList<>();
+        idle.drainTo(drained);
+        drained.forEach(this::retire);
+    }
+
+    /**
+     * Quit a session and free its slot
+     */
+    private void retire(WebDriver webDriver) {
+        live.decrementAndGet();
+        quietQuit(webDriver);
+    }
+
+    /**
+     * Clear cookies and storage, close extra windows, drop any implicit wait a test set
+     * and park the session on a blank page
+     */
+    private static void reset(WebDriver webDriver) {
+        List<String> handles = new ArrayList<>(webDriver.getWindowHandles());
+        for (int i = 1; i < handles.size(); i++) {
+            webDriver.switchTo().window(handles.get(i)).close();
+        }
+        webDriver.switchTo().window(handles.get(0));
+
+        webDriver.manage().timeouts().implicitlyWait(Duration.ZERO);
+        webDriver.manage().deleteAllCookies();
+        ((JavascriptExecutor) webDriver).executeScript(
+                "try { window.localStorage.clear(); window.sessionStorage.clear(); } catch (e) {}");
+        webDriver.get(BLANK_PAGE);
+    }
+
+    /**
+     * A session is healthy if the browser still answers a cheap command
+     */
+    private static boolean isHealthy(WebDriver webDriver) {
+        try {
+            webDriver.getWindowHandle();
+            return true;
+        } catch (WebDriverException e) {
+            return false;
+        }
+    }
+
+    private static void quietQuit(WebDriver webDriver) {
+        try {
+            webDriver.quit();
+        } catch (WebDriverException e) {
+            log.debug("Ignoring failure while quitting browser session", e);
+        }
+    }
+}
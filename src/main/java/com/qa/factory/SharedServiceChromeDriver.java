@@ -0,0 +1,39 @@
+package com.qa.factory;
+
+import org.openqa.selenium.chrome.AddHasCasting;
+import org.openqa.selenium.chrome.AddHasCdp;
+import org.openqa.selenium.chrome.ChromeDriverService;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.chromium.AddHasLaunchApp;
+import org.openqa.selenium.chromium.AddHasNetworkConditions;
+import org.openqa.selenium.chromium.AddHasPermissions;
+import org.openqa.selenium.chromium.ChromiumDriver;
+import org.openqa.selenium.remote.CommandInfo;
+import org.openqa.selenium.remote.HttpCommandExecutor;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * SharedServiceChromeDriver - Chrome session talking to an already running chromedriver
+ * Unlike ChromeDriver, quitting the session leaves the chromedriver process running
+ * so the next session can reuse it. The executor carries the same Chromium command set as
+ * ChromeDriver (CDP, casting, network conditions, permissions, launch app); the service-owning
+ * ChromiumDriverCommandExecutor is not used because it stops the service on quit
+ */
+class SharedServiceChromeDriver extends ChromiumDriver {
+
+    SharedServiceChromeDriver(ChromeDriverService service, ChromeOptions options) {
+        super(new HttpCommandExecutor(chromeCommands(), service.getUrl()), options, ChromeOptions.CAPABILITY);
+    }
+
+    private static Map<String, CommandInfo> chromeCommands() {
+        Map<String, CommandInfo> commands = new HashMap<>();
+        commands.putAll(new AddHasNetworkConditions().getAdditionalCommands());
+        commands.putAll(new AddHasPermissions().getAdditionalCommands());
+        commands.putAll(new AddHasLaunchApp().getAdditionalCommands());
+        commands.putAll(new AddHasCasting().getAdditionalCommands());
+        commands.putAll(new AddHasCdp().getAdditionalCommands());
+        return commands;
+    }
+}
@@ -0,0 +1,85 @@
+package com.qa.factory;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.events.WebDriverListener;
+
+import java.net.URL;
+
+/**
+ * SlowMotionListener - Debug aid that pauses before every interaction so a run can be watched
+ * Only attached when -Dslowmo.ms is set; sessions without it are not decorated and pay nothing
+ */
+class SlowMotionListener implements WebDriverListener {
+
+    private final long delayMillis;
+
+    SlowMotionListener(long delayMillis) {
+        this.delayMillis = delayMillis;
+    }
+
+    /**
+     * Configured delay in milliseconds, 0 when slow motion is off
+     */
+    static long configuredDelay() {
+        return Math.max(0, Long.getLong("slowmo.ms", 0));
+    }
+
+    @Override
+    public void beforeClick(WebElement element) {
+        pause();
+    }
+
+    @Override
+    public void beforeSubmit(WebElement element) {
+        pause();
+    }
+
+    @Override
+    public void beforeSendKeys(WebElement element, CharSequence... keysToSend) {
+        pause();
+    }
+
+    @Override
+    public void beforeClear(WebElement element) {
+        pause();
+    }
+
+    @Override
+    public void beforeGet(WebDriver driver, String url) {
+        pause();
+    }
+
+    @Override
+    public void beforeTo(WebDriver.Navigation navigation, String url) {
+        pause();
+    }
+
+    @Override
+    public void beforeTo(WebDriver.Navigation navigation, URL url) {
+        pause();
+    }
+
+    @Override
+    public void beforeBack(WebDriver.Navigation navigation) {
+        pause();
+    }
+
+    @Override
+    public void beforeForward(WebDriver.Navigation navigation) {
+        pause();
+    }
+
+    @Override
+    public void beforeRefresh(WebDriver.Navigation navigation) {
+        pause();
+    }
+
+    private void pause() {
+        try {
+            Thread.sleep(delayMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package com.qa.fixture;
+
+import com.sun.net.httpserver.Headers;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * FixtureServer - In-process HTTP server serving a bundled copy of the newsletter page
+ * Started once per JVM on a loopback port. All files are held in memory and served
+ * over persistent HTTP/1.1 connections with ETag and Cache-Control headers.
+ */
+public final class FixtureServer {
+
+    private static final Logger log = LoggerFactory.getLogger(FixtureServer.class);
+    private static final String RESOURCE_ROOT = "/fixture/newsletter/";
+    private static final String[] FILES = {"index.html", "styles.css", "app.js", "assets/icon-success.svg"};
+    private static final int WORKER_THREADS = 4;
+
+    private static FixtureServer shared;
+
+    private final HttpServer server;
+    private final ExecutorService workers;
+    private final Map<String, Resource> resources;
+
+    private FixtureServer(int port) throws IOException {
+        this.resources = loadResources();
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        this.workers = Executors.newFixedThreadPool(WORKER_THREADS, daemonThreads());
+        server.setExecutor(workers);
+        server.createContext("/", this::handle);
+        server.start();
+    }
+
+    /**
+     * Start a fixture server on the given port (0 picks a free port)
+     */
+    public static FixtureServer start(int port) {
+        try {
+            return new FixtureServer(port);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not start fixture server", e);
+        }
+    }
+
+    /**
+     * The JVM-wide fixture server, started on first use and stopped on JVM exit
+     */
+    public static synchronized FixtureServer shared() {
+        if (shared == null) {
+            shared = start(Integer.getInteger("fixture.port", 0));
+            Runtime.getRuntime().addShutdownHook(new Thread(shared::stop, "fixture-server-shutdown"));
+            log.info("Fixture server listening on {}", shared.getBaseUrl());
+        }
+        return shared;
+    }
+
+    /**
+     * Base URL of the newsletter page, ending with a slash
+     */
+    public String getBaseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + "/";
+    }
+
+    public void stop() {
+        server.stop(0);
+        workers.shutdownNow();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            String path = exchange.getRequestURI().getPath().substring(1);
+            Resource resource = resources.get(path.isEmpty() ? "index.html" : path);
+            String method = exchange.getRequestMethod();
+
+            if (resource == null) {
+                exchange.sendResponseHeaders(404, -1);
+                return;
+            }
+            if (!"GET".equals(method) && !"HEAD".equals(method)) {
+                exchange.getResponseHeaders().set("Allow", "GET, HEAD");
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+
+            Headers headers = exchange.getResponseHeaders();
+            headers.set("Content-Type", resource.contentType);
+            headers.set("Cache-Control", resource.cacheControl);
+            headers.set("ETag", resource.etag);
+
+            if (resource.etag.equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+                exchange.sendResponseHeaders(304, -1);
+                return;
+            }
+            if ("HEAD".equals(method)) {
+                exchange.sendResponseHeaders(200, -1);
+                return;
+            }
+            exchange.sendResponseHeaders(200, resource.body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(resource.body);
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private static Map<String, Resource> loadResources() throws IOException {
+        Map<String, Resource> loaded = new HashMap<>();
+        for (String file : FILES) {
+            try (InputStream in = FixtureServer.class.getResourceAsStream(RESOURCE_ROOT + file)) {
+                if (in == null) {
+                    throw new IOException("Missing fixture resource " + RESOURCE_ROOT + file);
+                }
+                loaded.put(file, new Resource(file, in.readAllBytes()));
+            }
+        }
+        return Collections.unmodifiableMap(loaded);
+    }
+
+    private static ThreadFactory daemonThreads() {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "fixture-server-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * In-memory file with precomputed headers
+     */
+    private static final class Resource {
+        private final byte[] body;
+        private final String contentType;
+        private final String cacheControl;
+        private final String etag;
+
+        Resource(String name, byte[] body) {
+            this.body = body;
+            this.contentType = contentTypeOf(name);
+            // The page itself is revalidated; static assets are cached by the browser
+            this.cacheControl = name.endsWith(".html") ? "no-cache" : "public, max-age=3600";
+            this.etag = "\"" + Integer.toHexString(Arrays.hashCode(body)) + "\"";
+        }
+
+        private static String contentTypeOf(String name) {
+            if (name.endsWith(".html")) {
+                return "text/html; charset=utf-8";
+            } else if (name.endsWith(".css")) {
+                return "text/css; charset=utf-8";
+            } else if (name.endsWith(".js")) {
+                return "application/javascript; charset=utf-8";
+            } else if (name.endsWith(".svg")) {
+                return "image/svg+xml";
+            }
+            return "application/octet-stream";
+        }
+    }
+}
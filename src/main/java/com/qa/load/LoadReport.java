@@ -0,0 +1,115 @@
+package com.qa.load;
+
+import com.qa.metrics.LatencyHistogram;
+import org.openqa.selenium.json.Json;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * LoadReport - Outcome of a load run: throughput, signup latency percentiles and errors by kind
+ */
+public final class LoadReport {
+
+    private final LatencyHistogram signupLatency = new LatencyHistogram();
+    private final AtomicLong attempts = new AtomicLong();
+    private final ConcurrentMap<String, AtomicLong> errors = new ConcurrentHashMap<>();
+    private volatile long startNanos;
+    private volatile long endNanos;
+
+    void started() {
+        startNanos = System.nanoTime();
+    }
+
+    void finished() {
+        endNanos = System.nanoTime();
+    }
+
+    /**
+     * Record a signup that reached the success message
+     */
+    void success(long latencyNanos) {
+        attempts.incrementAndGet();
+        signupLatency.record(latencyNanos);
+    }
+
+    /**
+     * Record a failed signup
+     * @param kind - short error category, e.g. "no-success" or an exception class name
+     */
+    void error(String kind) {
+        attempts.incrementAndGet();
+        errors.computeIfAbsent(kind, k -> new AtomicLong()).incrementAndGet();
+    }
+
+    public long getAttempts() {
+        return attempts.get();
+    }
+
+    public long getSuccesses() {
+        return signupLatency.getCount();
+    }
+
+    /**
+     * Successful submissions per second of wall-clock run time
+     */
+    public double getThroughput() {
+        double seconds = (endNanos - startNanos) / (double) TimeUnit.SECONDS.toNanos(1);
+        return seconds <= 0 ? 0 : getSuccesses() / seconds;
+    }
+
+    /**
+     * Share of attempts that failed, between 0 and 1
+     */
+    public double getErrorRate() {
+        long total = attempts.get();
+        return total == 0 ? 0 : (total - getSuccesses()) / (double) total;
+    }
+
+    /**
+     * Report as nested maps, ready for JSON export
+     */
+    public Map<String, Object> summary() {
+        Map<String, Object> errorCounts = new TreeMap<>();
+        errors.forEach((kind, count) -> errorCounts.put(kind, count.get()));
+
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("durationMs", TimeUnit.NANOSECONDS.toMillis(endNanos - startNanos));
+        summary.put("attempts", attempts.get());
+        summary.put("successes", getSuccesses());
+        summary.put("submissionsPerSecond", Math.round(getThroughput() * 100.0) / 100.0);
+        summary.put("errorRate", Math.round(getErrorRate() * 10_000.0) / 10_000.0);
+        summary.put("errors", errorCounts);
+        summary.put("signupLatency", signupLatency.summary());
+        return summary;
+    }
+
+    /**
+     * Write the report as JSON
+     */
+    public void writeJson(Path file) throws IOException {
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        Files.write(file, new Json().toJson(summary()).getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public String toString() {
+        Map<String, Object> latency = signupLatency.summary();
+        return String.format("%d attempts, %d ok, %.2f signups/s, error rate %.2f%%, "
+                        + "latency p50 %s ms, p95 %s ms, p99 %s ms, max %s ms, errors %s",
+                attempts.get(), getSuccesses(), getThroughput(), getErrorRate() * 100,
+                latency.get("p50Ms"), latency.get("p95Ms"), latency.get("p99Ms"), latency.get("maxMs"),
+                summary().get("errors"));
+    }
+}
@@ -0,0 +1,218 @@
+package com.qa.load;
+
+import com.qa.config.TargetProbe;
+import com.qa.config.TestTarget;
+import com.qa.factory.DriverBudget;
+import com.qa.factory.DriverFactory;
+import com.qa.fixture.FixtureServer;
+import com.qa.pages.NewsletterPage;
+import com.qa.pages.SuccessPage;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * LoadRunner - Synthetic signup load driven through the page objects
+ * Each virtual user holds one browser session on its own thread and repeats: open the page,
+ * subscribe with a unique email, wait for the success message. Users run for a fixed duration,
+ * optionally paced to a total submission rate, and the run reports throughput, latency and errors.
+ * A user whose browser dies gets a new session; if none can be started the user ends.
+ *
+ * Configured with system properties:
+ * load.users (browser budget), load.duration.s (60), load.rate (submissions/s in total, 0 = unpaced),
+ * load.report.file (target/load-report.json); target, browser and driver options as for the tests.
+ * The session pool is sized to load.users; an explicit -Ddriver.pool.size below it is rejected.
+ * Runs against the local fixture server unless -Dtarget=remote.
+ */
+public final class LoadRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(LoadRunner.class);
+    private static final String DEFAULT_BROWSER = "chrome";
+
+    private final String baseUrl;
+    private final String browser;
+    private final int users;
+    private final Duration duration;
+    private final double rate;
+    private final LoadReport report = new LoadReport();
+    private final AtomicLong sequence = new AtomicLong();
+    private final AtomicLong nextSlot = new AtomicLong();
+
+    /**
+     * @param users - concurrent browser sessions
+     * @param duration - how long users keep submitting
+     * @param rate - total submissions per second across all users, 0 for as fast as possible
+     */
+    public LoadRunner(String baseUrl, String browser, int users, Duration duration, double rate) {
+        if (users < 1) {
+            throw new IllegalArgumentException("Need at least one user, was " + users);
+        }
+        this.baseUrl = baseUrl;
+        this.browser = browser;
+        this.users = users;
+        this.duration = duration;
+        this.rate = rate;
+    }
+
+    public static void main(String[] args) throws IOException {
+        int users = Integer.getInteger("load.users", DriverBudget.maxConcurrentBrowsers());
+        // Every user holds a session for the whole run, so the pool must fit all of them
+        Integer poolSize = Integer.getInteger("driver.pool.size");
+        if (poolSize == null) {
+            System.setProperty("driver.pool.size", Integer.toString(Math.max(1, users)));
+        } else if (poolSize < users) {
+            throw new IllegalArgumentException("load.users (" + users + ") exceeds driver.pool.size (" + poolSize
+                    + "); the extra users would only wait for a session");
+        }
+
+        TargetProbe.awaitReady();
+        LoadRunner runner = new LoadRunner(
+                TestTarget.baseUrl(),
+                System.getProperty("browser", DEFAULT_BROWSER),
+                users,
+                Duration.ofSeconds(Long.getLong("load.duration.s", 60)),
+                Double.parseDouble(System.getProperty("load.rate", "0")));
+
+        LoadReport report;
+        try {
+            report = runner.run();
+        } finally {
+            // Release browsers and the local fixture now; exec:java waits for their threads otherwise
+            DriverFactory.shutdown();
+            if (!TestTarget.isRemote()) {
+                FixtureServer.shared().stop();
+            }
+        }
+        Path file = Paths.get(System.getProperty("load.report.file", "target/load-report.json"));
+        report.writeJson(file);
+        log.info("Load run finished: {}", report);
+        log.info("Full report: {}", file.toAbsolutePath());
+        if (report.getSuccesses() == 0) {
+            throw new IllegalStateException("No signup succeeded: " + report);
+        }
+    }
+
+    /**
+     * Run all users to the end of the duration and return the report
+     */
+    public LoadReport run() {
+        log.info("Load run: {} users on {} for {} s against {}{}", users, browser, duration.getSeconds(), baseUrl,
+                rate > 0 ? String.format(" at %.1f submissions/s", rate) : "");
+        DriverFactory.prewarm(users);
+
+        ExecutorService executor = Executors.newFixedThreadPool(users);
+        long deadline = System.nanoTime() + duration.toNanos();
+        nextSlot.set(System.nanoTime());
+        report.started();
+        try {
+            List<Future<?>> running = new ArrayList<>();
+            for (int user = 0; user < users; user++) {
+                int id = user;
+                running.add(executor.submit(() -> runUser(id, deadline)));
+            }
+            for (Future<?> future : running) {
+                try {
+                    future.get();
+                } catch (Exception e) {
+                    log.warn("Load user ended abnormally: {}", e.getMessage());
+                }
+            }
+        } finally {
+            report.finished();
+            executor.shutdownNow();
+        }
+        return report;
+    }
+
+    private void runUser(int id, long deadline) {
+        WebDriver driver = startSession();
+        if (driver == null) {
+            return;
+        }
+        try {
+            while (awaitSlot(deadline)) {
+                String email = "load-" + id + "-" + sequence.incrementAndGet() + "@example.com";
+                long start = System.nanoTime();
+                try {
+                    driver.get(baseUrl);
+                    NewsletterPage newsletterPage = new NewsletterPage(driver).awaitReady();
+                    newsletterPage.subscribeWithEmail(email);
+                    if (new SuccessPage(driver).waitForSuccessPageToAppear()) {
+                        report.success(System.nanoTime() - start);
+                    } else {
+                        report.error("no-success");
+                    }
+                } catch (RuntimeException e) {
+                    report.error(e.getClass().getSimpleName());
+                    if (!isAlive(driver)) {
+                        log.warn("Load user {} lost its browser session, starting a new one", id);
+                        DriverFactory.quitDriver();
+                        driver = startSession();
+                        if (driver == null) {
+                            return;
+                        }
+                    }
+                }
+            }
+        } finally {
+            DriverFactory.releaseDriver();
+        }
+    }
+
+    /**
+     * Check out a session for the current user; null (recorded as an error) if none could be started
+     */
+    private WebDriver startSession() {
+        try {
+            return DriverFactory.initializeDriver(browser);
+        } catch (RuntimeException e) {
+            report.error("session-start: " + e.getClass().getSimpleName());
+            return null;
+        }
+    }
+
+    private static boolean isAlive(WebDriver driver) {
+        try {
+            driver.getWindowHandle();
+            return true;
+        } catch (WebDriverException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Wait for this user's next submission slot; false once the run is over
+     * Without a rate every user submits back to back
+     */
+    private boolean awaitSlot(long deadline) {
+        long slot = rate > 0
+                ? nextSlot.getAndAdd((long) (TimeUnit.SECONDS.toNanos(1) / rate))
+                : System.nanoTime();
+        if (slot >= deadline) {
+            return false;
+        }
+        long waitNanos = slot - System.nanoTime();
+        if (waitNanos > 0) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(waitNanos);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        return System.nanoTime() < deadline;
+    }
+}
@@ -0,0 +1,120 @@
+package com.qa.metrics;
+
+import org.openqa.selenium.json.Json;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * CommandMetrics - Run-wide registry of WebDriver command latencies
+ * Aggregates per-command and per-test histograms and exports them as JSON plus a log summary
+ */
+public final class CommandMetrics {
+
+    private static final Logger log = LoggerFactory.getLogger(CommandMetrics.class);
+    private static final String NO_TEST = "(outside test)";
+    private static final String ALL_COMMANDS = "(all)";
+    private static final int SUMMARY_ROWS = 10;
+
+    private static final ConcurrentMap<String, LatencyHistogram> byCommand = new ConcurrentHashMap<>();
+    private static final ConcurrentMap<String, ConcurrentMap<String, LatencyHistogram>> byTest = new ConcurrentHashMap<>();
+    private static final ThreadLocal<String> currentTest = new ThreadLocal<>();
+
+    private CommandMetrics() {
+    }
+
+    /**
+     * Check if command timing is switched on with -Ddriver.metrics=true
+     */
+    public static boolean isEnabled() {
+        return Boolean.getBoolean("driver.metrics");
+    }
+
+    /**
+     * Attribute commands issued by the current thread to a test
+     */
+    public static void startTest(String testId) {
+        currentTest.set(testId);
+    }
+
+    public static void endTest() {
+        currentTest.remove();
+    }
+
+    /**
+     * Record one command duration for the current thread's test
+     */
+    public static void record(String command, long nanos) {
+        byCommand.computeIfAbsent(command, k -> new LatencyHistogram()).record(nanos);
+        String test = currentTest.get();
+        ConcurrentMap<String, LatencyHistogram> perTest =
+                byTest.computeIfAbsent(test == null ? NO_TEST : test, k -> new ConcurrentHashMap<>());
+        perTest.computeIfAbsent(command, k -> new LatencyHistogram()).record(nanos);
+        perTest.computeIfAbsent(ALL_COMMANDS, k -> new LatencyHistogram()).record(nanos);
+    }
+
+    /**
+     * Per-command and per-test summaries as nested maps
+     */
+    public static Map<String, Object> snapshot() {
+        Map<String, Object> commands = new TreeMap<>();
+        byCommand.forEach((command, histogram) -> commands.put(command, histogram.summary()));
+
+        Map<String, Object> tests = new TreeMap<>();
+        byTest.forEach((test, perCommand) -> {
+            Map<String, Object> testCommands = new TreeMap<>();
+            perCommand.forEach((command, histogram) -> testCommands.put(command, histogram.summary()));
+            tests.put(test, testCommands);
+        });
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("commands", commands);
+        result.put("tests", tests);
+        result.put("locatorCache", LocatorCacheStats.global().summary());
+        return result;
+    }
+
+    /**
+     * Write the JSON report and log the slowest commands by total time
+     */
+    public static void export() {
+        if (byCommand.isEmpty()) {
+            return;
+        }
+        Path file = Paths.get(System.getProperty("driver.metrics.file", "target/command-metrics.json"));
+        try {
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            Files.write(file, new Json().toJson(snapshot()).getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            log.warn("Could not write command metrics to {}: {}", file, e.getMessage());
+        }
+
+        StringBuilder summary = new StringBuilder("WebDriver command latency (ms), slowest by total time:");
+        summary.append(String.format("%n  %-22s %7s %10s %8s %8s %8s", "command", "count", "total", "p50", "p95", "p99"));
+        byCommand.entrySet().stream()
+                .sorted(Comparator.comparingLong(
+                        (Map.Entry<String, LatencyHistogram> e) -> e.getValue().getTotalNanos()).reversed())
+                .limit(SUMMARY_ROWS)
+                .forEach(e -> {
+                    Map<String, Object> s = e.getValue().summary();
+                    summary.append(String.format("%n  %-22s %7s %10s %8s %8s %8s", e.getKey(), s.get("count"),
+                            s.get("totalMs"), s.get("p50Ms"), s.get("p95Ms"), s.get("p99Ms")));
+                });
+        summary.append(String.format("%n  page-object element cache: %s", LocatorCacheStats.global()));
+        summary.append(String.format("%n  full report: %s", file.toAbsolutePath()));
+        log.info(summary.toString());
+    }
+}
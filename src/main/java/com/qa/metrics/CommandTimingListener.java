@@ -0,0 +1,40 @@
+package com.qa.metrics;
+
+import org.openqa.selenium.support.events.WebDriverListener;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * CommandTimingListener - Times every call made through a decorated WebDriver
+ * Driver, element, navigation and options calls are recorded in {@link CommandMetrics}
+ * under their method name (get, findElement, getCssValue, click, ...)
+ */
+public class CommandTimingListener implements WebDriverListener {
+
+    private final ThreadLocal<Deque<Long>> startTimes = ThreadLocal.withInitial(ArrayDeque::new);
+
+    @Override
+    public void beforeAnyCall(Object target, Method method, Object[] args) {
+        startTimes.get().push(System.nanoTime());
+    }
+
+    @Override
+    public void afterAnyCall(Object target, Method method, Object[] args, Object result) {
+        finish(method);
+    }
+
+    @Override
+    public void onError(Object target, Method method, Object[] args, InvocationTargetException e) {
+        finish(method);
+    }
+
+    private void finish(Method method) {
+        Long start = startTimes.get().poll();
+        if (start != null) {
+            CommandMetrics.record(method.getName(), System.nanoTime() - start);
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.qa.metrics;
+
+import org.openqa.selenium.WebElement;
+
+import java.lang.reflect.Method;
+import java.time.Instant;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * CommandTrace - The last WebDriver commands issued by each thread, for failure diagnostics
+ * Bounded ring buffer per thread (-Dartifacts.trace.size, default 200 commands); only the method,
+ * arguments and timing are kept per call, the readable lines are built when a trace is captured.
+ * Recording is switched on with -Dartifacts.trace=true
+ */
+public final class CommandTrace {
+
+    private static final int SIZE = Integer.getInteger("artifacts.trace.size", 200);
+    private static final int MAX_ARGUMENT_LENGTH = 40;
+    private static final DateTimeFormatter TIME = DateTimeFormatter.ofPattern("HH:mm:ss.SSS");
+
+    private static final ThreadLocal<Deque<Command>> commands = ThreadLocal.withInitial(ArrayDeque::new);
+
+    private CommandTrace() {
+    }
+
+    /**
+     * Check if sessions should record a command trace (off by default: it wraps every session)
+     */
+    public static boolean isEnabled() {
+        return Boolean.getBoolean("artifacts.trace");
+    }
+
+    /**
+     * Append one command to the current thread's trace, dropping the oldest one when full
+     */
+    public static void record(Method method, Object[] args, long nanos, Throwable error) {
+        Deque<Command> trace = commands.get();
+        if (trace.size() >= SIZE) {
+            trace.pollFirst();
+        }
+        trace.addLast(new Command(System.currentTimeMillis(), method, args, nanos, error));
+    }
+
+    /**
+     * The current thread's trace as readable lines, oldest first
+     */
+    public static List<String> snapshot() {
+        List<String> lines = new ArrayList<>();
+        for (Command command : commands.get()) {
+            lines.add(command.format());
+        }
+        return lines;
+    }
+
+    /**
+     * Start a fresh trace for the current thread, e.g. at the start of a test
+     */
+    public static void clear() {
+        commands.get().clear();
+    }
+
+    /**
+     * One recorded call; formatted only when a trace is captured
+     */
+    private static final class Command {
+        private final long epochMillis;
+        private final Method method;
+        private final Object[] args;
+        private final long nanos;
+        private final Throwable error;
+
+        Command(long epochMillis, Method method, Object[] args, long nanos, Throwable error) {
+            this.epochMillis = epochMillis;
+            this.method = method;
+            this.args = args;
+            this.nanos = nanos;
+            this.error = error;
+        }
+
+        String format() {
+            LocalTime time = LocalTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+            return String.format("%s %-60s %8.1f ms%s", time.format(TIME), describe(),
+                    nanos / 1_000_000.0, error == null ? "" : "  FAILED: " + firstLine(error));
+        }
+
+        private String describe() {
+            StringBuilder call = new StringBuilder(method.getName()).append('(');
+            if (args != null) {
+                for (int i = 0; i < args.length; i++) {
+                    if (i > 0) {
+                        call.append(", ");
+                    }
+                    call.append(shorten(args[i]));
+                }
+            }
+            return call.append(')').toString();
+        }
+    }
+
+    private static String shorten(Object arg) {
+        if (arg instanceof WebElement) {
+            return "element";
+        }
+        String text = arg instanceof CharSequence[] ? String.join("", (CharSequence[]) arg) : String.valueOf(arg);
+        text = text.replace('\n', ' ');
+        return text.length() <= MAX_ARGUMENT_LENGTH ? text : text.substring(0, MAX_ARGUMENT_LENGTH) + "...";
+    }
+
+    private static String firstLine(Throwable error) {
+        String message = String.valueOf(error.getMessage());
+        int newline = message.indexOf('\n');
+        return error.getClass().getSimpleName() + ": " + (newline < 0 ? message : message.substring(0, newline));
+    }
+}
@@ -0,0 +1,39 @@
+package com.qa.metrics;
+
+import org.openqa.selenium.support.events.WebDriverListener;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * CommandTraceListener - Records every call made through a decorated WebDriver in {@link CommandTrace}
+ * as method, arguments, duration and error
+ */
+public class CommandTraceListener implements WebDriverListener {
+
+    private final ThreadLocal<Deque<Long>> startTimes = ThreadLocal.withInitial(ArrayDeque::new);
+
+    @Override
+    public void beforeAnyCall(Object target, Method method, Object[] args) {
+        startTimes.get().push(System.nanoTime());
+    }
+
+    @Override
+    public void afterAnyCall(Object target, Method method, Object[] args, Object result) {
+        finish(method, args, null);
+    }
+
+    @Override
+    public void onError(Object target, Method method, Object[] args, InvocationTargetException e) {
+        finish(method, args, e.getTargetException());
+    }
+
+    private void finish(Method method, Object[] args, Throwable error) {
+        Long start = startTimes.get().poll();
+        if (start != null) {
+            CommandTrace.record(method, args, System.nanoTime() - start, error);
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.qa.metrics;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * LatencyHistogram - Thread-safe latency recorder with exact percentiles
+ * Keeps every sample (a few thousand per run), which is cheap and avoids bucket error
+ */
+public final class LatencyHistogram {
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    private long[] samples = new long[INITIAL_CAPACITY];
+    private int count;
+    private long totalNanos;
+
+    /**
+     * Record one sample
+     */
+    public synchronized void record(long nanos) {
+        if (count == samples.length) {
+            samples = Arrays.copyOf(samples, count * 2);
+        }
+        samples[count++] = nanos;
+        totalNanos += nanos;
+    }
+
+    public synchronized int getCount() {
+        return count;
+    }
+
+    public synchronized long getTotalNanos() {
+        return totalNanos;
+    }
+
+    /**
+     * Percentile by nearest rank
+     * @param percentile - between 0 and 100
+     */
+    public synchronized long percentileNanos(double percentile) {
+        return rank(sorted(), percentile);
+    }
+
+    /**
+     * Count, total and p50/p95/p99/max in milliseconds, ready for JSON export
+     */
+    public synchronized Map<String, Object> summary() {
+        long[] sorted = sorted();
+
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("count", count);
+        summary.put("totalMs", millis(totalNanos));
+        summary.put("p50Ms", millis(rank(sorted, 50)));
+        summary.put("p95Ms", millis(rank(sorted, 95)));
+        summary.put("p99Ms", millis(rank(sorted, 99)));
+        summary.put("maxMs", millis(count == 0 ? 0 : sorted[count - 1]));
+        return summary;
+    }
+
+    private long[] sorted() {
+        long[] sorted = Arrays.copyOf(samples, count);
+        Arrays.sort(sorted);
+        return sorted;
+    }
+
+    private static long rank(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(percentile / 100.0 * sorted.length);
+        return sorted[Math.max(0, Math.min(sorted.length - 1, rank - 1))];
+    }
+
+    private static double millis(long nanos) {
+        return Math.round(nanos / (double) TimeUnit.MILLISECONDS.toNanos(1) * 100.0) / 100.0;
+    }
+}
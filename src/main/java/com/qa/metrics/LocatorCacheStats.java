@@ -0,0 +1,90 @@
+package com.qa.metrics;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * LocatorCacheStats - Hit, miss and stale re-resolve counters of a page-object element cache
+ * Every instance also feeds the run-wide totals returned by {@link #global()}
+ */
+public final class LocatorCacheStats {
+
+    private static final LocatorCacheStats GLOBAL = new LocatorCacheStats(null);
+
+    private final LocatorCacheStats parent;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong staleRetries = new AtomicLong();
+
+    private LocatorCacheStats(LocatorCacheStats parent) {
+        this.parent = parent;
+    }
+
+    /**
+     * New counters for one page instance
+     */
+    public static LocatorCacheStats create() {
+        return new LocatorCacheStats(GLOBAL);
+    }
+
+    /**
+     * Totals across every page instance in this JVM
+     */
+    public static LocatorCacheStats global() {
+        return GLOBAL;
+    }
+
+    public void hit() {
+        hits.incrementAndGet();
+        if (parent != null) {
+            parent.hit();
+        }
+    }
+
+    public void miss() {
+        misses.incrementAndGet();
+        if (parent != null) {
+            parent.miss();
+        }
+    }
+
+    public void staleRetry() {
+        staleRetries.incrementAndGet();
+        if (parent != null) {
+            parent.staleRetry();
+        }
+    }
+
+    public long getHits() {
+        return hits.get();
+    }
+
+    public long getMisses() {
+        return misses.get();
+    }
+
+    public long getStaleRetries() {
+        return staleRetries.get();
+    }
+
+    public double getHitRatio() {
+        long total = hits.get() + misses.get();
+        return total == 0 ? 0.0 : hits.get() / (double) total;
+    }
+
+    public Map<String, Object> summary() {
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("hits", getHits());
+        summary.put("misses", getMisses());
+        summary.put("staleRetries", getStaleRetries());
+        summary.put("hitRatio", Math.round(getHitRatio() * 1000) / 1000.0);
+        return summary;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("hits=%d, misses=%d, staleRetries=%d, hitRatio=%.2f",
+                getHits(), getMisses(), getStaleRetries(), getHitRatio());
+    }
+}
@@ -0,0 +1,103 @@
+package com.qa.metrics;
+
+import org.openqa.selenium.json.Json;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * NavigationTiming - Time from driver.get until the page object is ready, per page load strategy
+ * Each run merges its summary into one JSON file keyed by strategy, so running the suite once
+ * with normal and once with eager / none gives a before/after comparison.
+ * Switched on with -Dnavigation.timing=true
+ */
+public final class NavigationTiming {
+
+    private static final Logger log = LoggerFactory.getLogger(NavigationTiming.class);
+
+    private static final LatencyHistogram navigate = new LatencyHistogram();
+    private static final LatencyHistogram ready = new LatencyHistogram();
+    private static final LatencyHistogram total = new LatencyHistogram();
+    private static volatile String strategy = "normal";
+
+    private NavigationTiming() {
+    }
+
+    /**
+     * Check if navigation timing is switched on with -Dnavigation.timing=true
+     */
+    public static boolean isEnabled() {
+        return Boolean.getBoolean("navigation.timing");
+    }
+
+    /**
+     * Record one navigation
+     * @param pageLoadStrategy - strategy the session was created with
+     * @param navigateNanos - time spent in driver.get
+     * @param readyNanos - time spent waiting for the page object's critical elements afterwards
+     */
+    public static void record(String pageLoadStrategy, long navigateNanos, long readyNanos) {
+        strategy = pageLoadStrategy;
+        navigate.record(navigateNanos);
+        ready.record(readyNanos);
+        total.record(navigateNanos + readyNanos);
+    }
+
+    /**
+     * Merge this run into the report file and log every strategy it contains
+     */
+    @SuppressWarnings("unchecked")
+    public static void export() {
+        if (total.getCount() == 0) {
+            return;
+        }
+        Path file = Paths.get(System.getProperty("navigation.timing.file", "target/navigation-timing.json"));
+        Json json = new Json();
+
+        Map<String, Object> report = new TreeMap<>();
+        try {
+            if (Files.exists(file)) {
+                report.putAll(json.toType(Files.readString(file), Json.MAP_TYPE));
+            }
+        } catch (IOException | RuntimeException e) {
+            log.warn("Ignoring unreadable navigation timing report {}: {}", file, e.getMessage());
+        }
+
+        Map<String, Object> run = new LinkedHashMap<>();
+        run.put("navigate", navigate.summary());
+        run.put("ready", ready.summary());
+        run.put("total", total.summary());
+        report.put(strategy, run);
+
+        try {
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            Files.write(file, json.toJson(report).getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            log.warn("Could not write navigation timing to {}: {}", file, e.getMessage());
+        }
+
+        StringBuilder summary = new StringBuilder("Navigation until page ready (ms), by page load strategy:");
+        summary.append(String.format("%n  %-8s %7s %10s %10s %10s %10s", "strategy", "count", "get p50",
+                "ready p50", "total p50", "total p95"));
+        report.forEach((name, value) -> {
+            Map<String, Object> entry = (Map<String, Object>) value;
+            Map<String, Object> get = (Map<String, Object>) entry.get("navigate");
+            Map<String, Object> wait = (Map<String, Object>) entry.get("ready");
+            Map<String, Object> sum = (Map<String, Object>) entry.get("total");
+            summary.append(String.format("%n  %-8s %7s %10s %10s %10s %10s", name, sum.get("count"),
+                    get.get("p50Ms"), wait.get("p50Ms"), sum.get("p50Ms"), sum.get("p95Ms")));
+        });
+        summary.append(String.format("%n  full report: %s", file.toAbsolutePath()));
+        log.info(summary.toString());
+    }
+}
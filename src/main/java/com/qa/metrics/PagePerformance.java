@@ -0,0 +1,205 @@
+package com.qa.metrics;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.json.JsonOutput;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.OptionalDouble;
+
+/**
+ * PagePerformance - Front-end metrics of the current document, read in one executeScript call
+ * Navigation Timing, paint timings, long tasks and resource totals come from the browser's
+ * performance timeline; clickToSuccessMs is measured in the page with performance.now()
+ * when {@link #armClickTiming} was called before the click.
+ * Metrics the engine does not expose (e.g. paint timings outside Chromium) are left out.
+ *
+ * Each capture can be appended to a line-delimited trend file, -Dperf.trend.file
+ */
+public final class PagePerformance {
+
+    private static final Logger log = LoggerFactory.getLogger(PagePerformance.class);
+
+    public static final String TTFB = "ttfbMs";
+    public static final String DOM_INTERACTIVE = "domInteractiveMs";
+    public static final String DOM_CONTENT_LOADED = "domContentLoadedMs";
+    public static final String LOAD = "loadMs";
+    public static final String FIRST_PAINT = "firstPaintMs";
+    public static final String FIRST_CONTENTFUL_PAINT = "firstContentfulPaintMs";
+    public static final String LONG_TASK_COUNT = "longTaskCount";
+    public static final String LONG_TASK_TIME = "longTaskMs";
+    public static final String RESOURCE_COUNT = "resourceCount";
+    public static final String TRANSFER_BYTES = "transferBytes";
+    public static final String CLICK_TO_SUCCESS = "clickToSuccessMs";
+
+    /**
+     * Arms the click-to-success measurement; arguments[0] is the element about to be clicked,
+     * arguments[1] the selector of the element whose appearance ends the measurement and
+     * arguments[2] the time in ms after which the measurement is given up.
+     * The observer is only installed by the click and is disconnected on success, on timeout
+     * or when the measurement is armed again. The end is taken in the first animation frame
+     * after the element becomes visible.
+     */
+    private static final String ARM_CLICK_SCRIPT =
+            "var previous = window.__qaClickTiming;\n" +
+            "if (previous && previous.stop) { previous.stop(); }\n" +
+            "var trigger = arguments[0], target = document.querySelector(arguments[1]);\n" +
+            "var perf = window.__qaClickTiming = {click: null, success: null, stop: null};\n" +
+            "if (!trigger || !target || !window.performance || !window.MutationObserver) { return; }\n" +
+            "function shown() {\n" +
+            "  var s = window.getComputedStyle(target);\n" +
+            "  return s.display !== 'none' && s.visibility !== 'hidden' && target.getClientRects().length > 0;\n" +
+            "}\n" +
+            "var observer = new MutationObserver(function () {\n" +
+            "  if (!shown()) { return; }\n" +
+            "  perf.stop();\n" +
+            "  perf.success = performance.now();\n" +
+            "  if (window.requestAnimationFrame) {\n" +
+            "    requestAnimationFrame(function () { perf.success = performance.now(); });\n" +
+            "  }\n" +
+            "});\n" +
+            "function onClick() {\n" +
+            "  perf.click = performance.now();\n" +
+            "  observer.observe(document.documentElement,\n" +
+            "      {subtree: true, childList: true, attributes: true, characterData: true});\n" +
+            "}\n" +
+            "var timer = setTimeout(function () { perf.stop(); }, arguments[2]);\n" +
+            "perf.stop = function () {\n" +
+            "  observer.disconnect(); clearTimeout(timer);\n" +
+            "  trigger.removeEventListener('click', onClick, true);\n" +
+            "};\n" +
+            "trigger.addEventListener('click', onClick, {capture: true, once: true});";
+
+    private static final long CLICK_TIMING_TIMEOUT_MS = 30_000;
+
+    private static final String COLLECT_SCRIPT =
+            "var p = window.performance, m = {};\n" +
+            "if (!p) { return m; }\n" +
+            "function put(name, value) { if (typeof value === 'number' && value > 0) { m[name] = value; } }\n" +
+            "var nav = p.getEntriesByType ? p.getEntriesByType('navigation')[0] : null;\n" +
+            "if (nav) {\n" +
+            "  put('ttfbMs', nav.responseStart); put('domInteractiveMs', nav.domInteractive);\n" +
+            "  put('domContentLoadedMs', nav.domContentLoadedEventEnd); put('loadMs', nav.loadEventEnd);\n" +
+            "} else if (p.timing && p.timing.navigationStart) {\n" +
+            "  var t = p.timing, start = t.navigationStart;\n" +
+            "  put('ttfbMs', t.responseStart - start); put('domInteractiveMs', t.domInteractive - start);\n" +
+            "  put('domContentLoadedMs', t.domContentLoadedEventEnd - start);\n" +
+            "  put('loadMs', t.loadEventEnd - start);\n" +
+            "}\n" +
+            "if (p.getEntriesByType) {\n" +
+            "  p.getEntriesByType('paint').forEach(function (e) {\n" +
+            "    put(e.name === 'first-paint' ? 'firstPaintMs' : 'firstContentfulPaintMs', e.startTime);\n" +
+            "  });\n" +
+            "  var resources = p.getEntriesByType('resource'), bytes = nav ? nav.transferSize || 0 : 0;\n" +
+            "  resources.forEach(function (e) { bytes += e.transferSize || 0; });\n" +
+            "  m.resourceCount = resources.length; m.transferBytes = bytes;\n" +
+            "}\n" +
+            "var types = window.PerformanceObserver && PerformanceObserver.supportedEntryTypes;\n" +
+            "if (types && types.indexOf('longtask') >= 0) {\n" +
+            "  var observer = new PerformanceObserver(function () {});\n" +
+            "  observer.observe({type: 'longtask', buffered: true});\n" +
+            "  var tasks = observer.takeRecords(), busy = 0;\n" +
+            "  observer.disconnect();\n" +
+            "  tasks.forEach(function (e) { busy += e.duration; });\n" +
+            "  m.longTaskCount = tasks.length; m.longTaskMs = busy;\n" +
+            "}\n" +
+            "var click = window.__qaClickTiming;\n" +
+            "if (click && click.click !== null && click.success !== null) {\n" +
+            "  m.clickToSuccessMs = click.success - click.click;\n" +
+            "}\n" +
+            "return m;";
+
+    private static final Object trendLock = new Object();
+
+    private final Map<String, Double> metrics;
+
+    private PagePerformance(Map<String, Double> metrics) {
+        this.metrics = Collections.unmodifiableMap(metrics);
+    }
+
+    /**
+     * Collect every available metric of the current document in one round trip
+     */
+    public static PagePerformance capture(WebDriver driver) {
+        Object raw = ((JavascriptExecutor) driver).executeScript(COLLECT_SCRIPT);
+        Map<String, Double> metrics = new LinkedHashMap<>();
+        if (raw instanceof Map) {
+            ((Map<?, ?>) raw).forEach((name, value) -> {
+                if (value instanceof Number) {
+                    metrics.put(String.valueOf(name), ((Number) value).doubleValue());
+                }
+            });
+        }
+        return new PagePerformance(metrics);
+    }
+
+    /**
+     * Measure the time from the next click on the trigger until the target element is shown,
+     * reported as {@link #CLICK_TO_SUCCESS} by the next capture. Re-arming drops an earlier
+     * measurement that has not finished; an unfinished one is given up after 30 s.
+     * @param trigger - element that is about to be clicked
+     * @param targetSelector - CSS selector of the element whose appearance ends the measurement
+     */
+    public static void armClickTiming(WebDriver driver, WebElement trigger, String targetSelector) {
+        ((JavascriptExecutor) driver).executeScript(ARM_CLICK_SCRIPT, trigger, targetSelector,
+                CLICK_TIMING_TIMEOUT_MS);
+    }
+
+    /**
+     * Value of one metric, empty if the engine does not expose it
+     */
+    public OptionalDouble get(String metric) {
+        Double value = metrics.get(metric);
+        return value == null ? OptionalDouble.empty() : OptionalDouble.of(value);
+    }
+
+    public Map<String, Double> getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Append this capture as one JSON line to the trend file, so runs can be compared over time
+     * @param label - what was measured, usually the test id
+     */
+    public void appendToTrend(String label) {
+        Map<String, Object> line = new LinkedHashMap<>();
+        line.put("timestamp", Instant.now().toString());
+        line.put("label", label);
+        line.put("metrics", metrics);
+        StringBuilder json = new StringBuilder();
+        try (JsonOutput out = new Json().newOutput(json)) {
+            out.setPrettyPrint(false).write(line);
+        }
+        byte[] bytes = json.append(System.lineSeparator()).toString().getBytes(StandardCharsets.UTF_8);
+
+        Path file = Paths.get(System.getProperty("perf.trend.file", "target/perf-trend.jsonl"));
+        synchronized (trendLock) {
+            try {
+                if (file.getParent() != null) {
+                    Files.createDirectories(file.getParent());
+                }
+                Files.write(file, bytes, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            } catch (IOException e) {
+                log.warn("Could not append page performance to {}: {}", file, e.getMessage());
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "PagePerformance" + metrics;
+    }
+}
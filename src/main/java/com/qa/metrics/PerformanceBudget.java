@@ -0,0 +1,68 @@
+package com.qa.metrics;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalDouble;
+
+/**
+ * PerformanceBudget - Upper limits for {@link PagePerformance} metrics
+ * Each limit is read from -Dperf.budget.&lt;metric&gt; (e.g. -Dperf.budget.firstContentfulPaintMs=1000);
+ * a value of 0 or less switches that limit off. Metrics the engine did not report are not checked.
+ */
+public final class PerformanceBudget {
+
+    private static final Map<String, Double> DEFAULTS = new LinkedHashMap<>();
+
+    static {
+        DEFAULTS.put(PagePerformance.TTFB, 800.0);
+        DEFAULTS.put(PagePerformance.DOM_CONTENT_LOADED, 2000.0);
+        DEFAULTS.put(PagePerformance.LOAD, 3000.0);
+        DEFAULTS.put(PagePerformance.FIRST_CONTENTFUL_PAINT, 1800.0);
+        DEFAULTS.put(PagePerformance.LONG_TASK_TIME, 200.0);
+        DEFAULTS.put(PagePerformance.RESOURCE_COUNT, 50.0);
+        DEFAULTS.put(PagePerformance.TRANSFER_BYTES, 1_000_000.0);
+        DEFAULTS.put(PagePerformance.CLICK_TO_SUCCESS, 200.0);
+    }
+
+    private final Map<String, Double> limits;
+
+    private PerformanceBudget(Map<String, Double> limits) {
+        this.limits = Collections.unmodifiableMap(limits);
+    }
+
+    /**
+     * Built-in limits, each overridable with a system property
+     */
+    public static PerformanceBudget fromSystemProperties() {
+        Map<String, Double> limits = new LinkedHashMap<>();
+        DEFAULTS.forEach((metric, fallback) -> {
+            String configured = System.getProperty("perf.budget." + metric);
+            double limit = configured == null ? fallback : Double.parseDouble(configured);
+            if (limit > 0) {
+                limits.put(metric, limit);
+            }
+        });
+        return new PerformanceBudget(limits);
+    }
+
+    /**
+     * Metrics over their limit, as readable messages; empty when the page is within budget
+     */
+    public List<String> violations(PagePerformance performance) {
+        List<String> violations = new ArrayList<>();
+        limits.forEach((metric, limit) -> {
+            OptionalDouble value = performance.get(metric);
+            if (value.isPresent() && value.getAsDouble() > limit) {
+                violations.add(String.format("%s %.1f exceeds budget %.1f", metric, value.getAsDouble(), limit));
+            }
+        });
+        return violations;
+    }
+
+    public Map<String, Double> getLimits() {
+        return limits;
+    }
+}
@@ -1,24 +1,59 @@
 package com.qa.pages;
 
-import org.openqa.selenium.By;
+import com.qa.metrics.LocatorCacheStats;
+import com.qa.metrics.PagePerformance;
+import com.qa.utils.CachingElementLocatorFactory;
+import com.qa.utils.CachingFieldDecorator;
+import com.qa.utils.DomWatcher;
+import com.qa.utils.PageReadiness;
+import com.qa.utils.PageSnapshot;
+import com.qa.utils.PageState;
+import com.qa.utils.WaitEngine;
 import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
 import org.openqa.selenium.support.PageFactory;
 import org.openqa.selenium.support.ui.ExpectedConditions;
-import org.openqa.selenium.support.ui.WebDriverWait;
 
 import java.time.Duration;
 
 /**
  * NewsletterPage - Page Object for Newsletter Sign-up page
  * Based on actual HTML: index.html
+ * Built from a {@link PageSnapshot}, the read-only methods answer from the snapshot
+ * and the interacting ones throw IllegalStateException
  */
 public class NewsletterPage {
 
+    private static final String HEADING = "#head";
+    private static final String EMAIL_INPUT = "#email";
+    private static final String SUBSCRIBE_BUTTON = "#subscribe-btn";
+    private static final String EMAIL_ERROR = "#email-error";
+    private static final String SUCCESS_MESSAGE = "#success-message";
+    private static final int ERROR_SETTLE_MILLIS = 1000;
+    private static final int READY_TIMEOUT_SECONDS = 30;
+
+    /**
+     * Clears the form and any validation state without a reload.
+     * Returns true if the form is visible and neither the error nor the success message is shown.
+     */
+    private static final String RESET_FORM_SCRIPT =
+            "var form = document.getElementById('signup-form'), email = document.getElementById('email');\n" +
+            "if (form) { form.reset(); }\n" +
+            "if (email) { email.value = ''; email.dispatchEvent(new Event('input', {bubbles: true})); }\n" +
+            "function shown(id) {\n" +
+            "  var el = document.getElementById(id);\n" +
+            "  if (!el) return false;\n" +
+            "  var s = window.getComputedStyle(el);\n" +
+            "  return s.display !== 'none' && s.visibility !== 'hidden' && el.getClientRects().length > 0;\n" +
+            "}\n" +
+            "return shown('email') && !shown('email-error') && !shown('success-message');";
+
     private final WebDriver driver;
-    private final WebDriverWait wait;
+    private final WaitEngine wait;
+    private final CachingElementLocatorFactory locatorFactory;
+    private final PageSnapshot captured;
 
     @FindBy(id = "head")
     private WebElement heading;
@@ -40,14 +75,89 @@ public class NewsletterPage {
      */
     public NewsletterPage(WebDriver driver) {
         this.driver = driver;
-        this.wait = new WebDriverWait(driver, Duration.ofSeconds(15));
-        PageFactory.initElements(driver, this);
+        this.wait = WaitEngine.on(driver);
+        this.locatorFactory = new CachingElementLocatorFactory(driver);
+        PageFactory.initElements(new CachingFieldDecorator(locatorFactory), this);
+        this.captured = null;
+    }
+
+    private NewsletterPage(PageSnapshot captured) {
+        this.driver = null;
+        this.wait = null;
+        this.locatorFactory = null;
+        this.captured = captured;
+    }
+
+    /**
+     * Read-only page object backed by a snapshot from {@link #captureSnapshot()}
+     */
+    public static NewsletterPage fromSnapshot(PageSnapshot snapshot) {
+        return new NewsletterPage(snapshot);
+    }
+
+    /**
+     * Capture the DOM and every element this page object reads, for {@link #fromSnapshot(PageSnapshot)}
+     */
+    public PageSnapshot captureSnapshot() {
+        requireLive();
+        return PageSnapshot.capture(driver, HEADING, EMAIL_INPUT, SUBSCRIBE_BUTTON, EMAIL_ERROR);
+    }
+
+    /**
+     * Wait until the elements every test interacts with (email field, subscribe button) are usable
+     * With the eager / none page load strategies this is what gates a test, not the full page load
+     */
+    public NewsletterPage awaitReady() {
+        if (captured != null) {
+            return this;
+        }
+        PageReadiness.await(driver, Duration.ofSeconds(READY_TIMEOUT_SECONDS), EMAIL_INPUT, SUBSCRIBE_BUTTON);
+        return this;
+    }
+
+    /**
+     * Element cache statistics for this page instance
+     */
+    public LocatorCacheStats getLocatorCacheStats() {
+        requireLive();
+        return locatorFactory.getStats();
+    }
+
+    /**
+     * Capture heading, email field, subscribe button and error message state in one round trip
+     */
+    public PageState snapshot() {
+        if (captured != null) {
+            return captured.getState();
+        }
+        return PageState.capture(driver, HEADING, EMAIL_INPUT, SUBSCRIBE_BUTTON, EMAIL_ERROR);
+    }
+
+    /**
+     * Navigation, paint, long task and resource metrics of the loaded page
+     */
+    public PagePerformance getPerformance() {
+        requireLive();
+        return PagePerformance.capture(driver);
+    }
+
+    /**
+     * Time the next subscribe click until the success message shows, for {@link #getPerformance()}
+     * on the success page; only armed when asked for, so ordinary clicks add no observer
+     */
+    public NewsletterPage armClickTiming() {
+        requireLive();
+        PagePerformance.armClickTiming(driver, subscribeButton, SUCCESS_MESSAGE);
+        return this;
     }
 
     /**
      * Check if newsletter page is loaded
      */
     public boolean isNewsletterPageLoaded() {
+        if (captured != null) {
+            return captured.getState().get(HEADING).isVisible();
+        }
         try {
             wait.until(ExpectedConditions.visibilityOf(heading));
             return heading.isDisplayed();
@@ -60,6 +170,9 @@ public class NewsletterPage {
      * Get heading text
      */
     public String getHeadingText() {
+        if (captured != null) {
+            return captured.getState().get(HEADING).getText();
+        }
         wait.until(ExpectedConditions.visibilityOf(heading));
         return heading.getText();
     }
@@ -68,6 +181,7 @@ public class NewsletterPage {
      * Enter email address
      */
     public NewsletterPage enterEmail(String email) {
+        requireLive();
         wait.until(ExpectedConditions.visibilityOf(emailInput));
         emailInput.clear();
         emailInput.sendKeys(email);
@@ -78,6 +192,7 @@ public class NewsletterPage {
      * Click subscribe button
      */
     public void clickSubscribeButton() {
+        requireLive();
         wait.until(ExpectedConditions.elementToBeClickable(subscribeButton));
 
         // Scroll into view for headless stability
@@ -99,24 +214,14 @@ public class NewsletterPage {
 
     /**
      * Check if error message is displayed
+     * Returns as soon as the error becomes visible, or after a short settle time if it never does
      */
     public boolean isErrorMessageDisplayed() {
+        if (captured != null) {
+            return captured.getState().get(EMAIL_ERROR).isVisible();
+        }
         try {
-            Thread.sleep(1000); // Wait for error to appear
-
-            // Check if error message has visible class or is displayed
-            if (driver.findElements(By.id("email-error")).size() > 0) {
-                WebElement msg = driver.findElement(By.id("email-error"));
-                String displayStyle = msg.getCssValue("display");
-                String visibility = msg.getCssValue("visibility");
-                String opacity = msg.getCssValue("opacity");
-
-                return !displayStyle.equals("none") &&
-                        !visibility.equals("hidden") &&
-                        !opacity.equals("0") &&
-                        msg.isDisplayed();
-            }
-            return false;
+            return DomWatcher.awaitVisible(driver, EMAIL_ERROR, null, Duration.ofMillis(ERROR_SETTLE_MILLIS));
         } catch (Exception e) {
             return false;
         }
@@ -127,10 +232,7 @@ public class NewsletterPage {
      */
     public String getErrorMessageText() {
         try {
-            if (driver.findElements(By.id("email-error")).size() > 0) {
-                return driver.findElement(By.id("email-error")).getText().trim();
-            }
-            return "";
+            return snapshot().get(EMAIL_ERROR).getText();
         } catch (Exception e) {
             return "";
         }
@@ -140,6 +242,9 @@ public class NewsletterPage {
      * Check if email field is displayed
      */
     public boolean isEmailFieldDisplayed() {
+        if (captured != null) {
+            return captured.getState().get(EMAIL_INPUT).isVisible();
+        }
         try {
             wait.until(ExpectedConditions.visibilityOf(emailInput));
             return emailInput.isDisplayed();
@@ -152,6 +257,9 @@ public class NewsletterPage {
      * Check if subscribe button is displayed
      */
     public boolean isSubscribeButtonDisplayed() {
+        if (captured != null) {
+            return captured.getState().get(SUBSCRIBE_BUTTON).isVisible();
+        }
         try {
             wait.until(ExpectedConditions.visibilityOf(subscribeButton));
             return subscribeButton.isDisplayed();
@@ -164,6 +272,9 @@ public class NewsletterPage {
      * Check if subscribe button is enabled
      */
     public boolean isSubscribeButtonEnabled() {
+        if (captured != null) {
+            return captured.getState().get(SUBSCRIBE_BUTTON).isEnabled();
+        }
         wait.until(ExpectedConditions.visibilityOf(subscribeButton));
         return subscribeButton.isEnabled();
     }
@@ -172,15 +283,34 @@ public class NewsletterPage {
      * Clear email field
      */
     public NewsletterPage clearEmailField() {
+        requireLive();
         wait.until(ExpectedConditions.visibilityOf(emailInput));
         emailInput.clear();
         return this;
     }
 
+    /**
+     * Reset the form in place (value, validation error) with one script call
+     * @return true if the page is back to a clean, empty form
+     */
+    public boolean resetForm() {
+        requireLive();
+        return Boolean.TRUE.equals(((JavascriptExecutor) driver).executeScript(RESET_FORM_SCRIPT));
+    }
+
     /**
      * Get email field placeholder text
      */
     public String getEmailFieldPlaceholder() {
-        return emailInput.getAttribute("placeholder");
+        if (captured != null) {
+            return captured.getState().get(EMAIL_INPUT).getAttribute("placeholder");
+        }
+        return emailInput.getDomAttribute("placeholder");
+    }
+
+    private void requireLive() {
+        if (captured != null) {
+            throw new IllegalStateException("NewsletterPage built from a snapshot is read-only");
+        }
     }
 }
\ No newline at end of file
@@ -1,12 +1,18 @@
 package com.qa.pages;
 
-import org.openqa.selenium.By;
+import com.qa.metrics.LocatorCacheStats;
+import com.qa.metrics.PagePerformance;
+import com.qa.utils.CachingElementLocatorFactory;
+import com.qa.utils.CachingFieldDecorator;
+import com.qa.utils.DomWatcher;
+import com.qa.utils.PageState;
+import com.qa.utils.TextQuery;
+import com.qa.utils.WaitEngine;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
 import org.openqa.selenium.support.PageFactory;
 import org.openqa.selenium.support.ui.ExpectedConditions;
-import org.openqa.selenium.support.ui.WebDriverWait;
 
 import java.time.Duration;
 
@@ -16,8 +22,16 @@ import java.time.Duration;
  */
 public class SuccessPage {
 
+    private static final String SUCCESS_MESSAGE = "#success-message";
+    private static final String SUCCESS_HEADING = "#success";
+    private static final String USER_EMAIL = "#user-email";
+    private static final String DISMISS_BUTTON = "#dismiss-btn";
+    private static final String SUCCESS_TEXT = "Thanks for subscribing";
+    private static final int SUCCESS_TIMEOUT_SECONDS = 10;
+
     private final WebDriver driver;
-    private final WebDriverWait wait;
+    private final WaitEngine wait;
+    private final CachingElementLocatorFactory locatorFactory;
 
     @FindBy(className = "desktop-icon")
     private WebElement successIcon;
@@ -39,8 +53,31 @@ public class SuccessPage {
      */
     public SuccessPage(WebDriver driver) {
         this.driver = driver;
-        this.wait = new WebDriverWait(driver, Duration.ofSeconds(15));
-        PageFactory.initElements(driver, this);
+        this.wait = WaitEngine.on(driver);
+        this.locatorFactory = new CachingElementLocatorFactory(driver);
+        PageFactory.initElements(new CachingFieldDecorator(locatorFactory), this);
+    }
+
+    /**
+     * Element cache statistics for this page instance
+     */
+    public LocatorCacheStats getLocatorCacheStats() {
+        return locatorFactory.getStats();
+    }
+
+    /**
+     * Capture success message, heading, user email and dismiss button state in one round trip
+     */
+    public PageState snapshot() {
+        return PageState.capture(driver, SUCCESS_MESSAGE, SUCCESS_HEADING, USER_EMAIL, DISMISS_BUTTON);
+    }
+
+    /**
+     * Page metrics including clickToSuccessMs, the in-page time from the subscribe click
+     * until the success message was visible
+     */
+    public PagePerformance getPerformance() {
+        return PagePerformance.capture(driver);
     }
 
     /**
@@ -48,9 +85,10 @@ public class SuccessPage {
      */
     public boolean isSuccessPageLoaded() {
         try {
-            return driver.findElements(By.id("success-message")).size() > 0
-                    || driver.findElements(By.id("success")).size() > 0
-                    || driver.getPageSource().contains("Thanks for subscribing");
+            PageState state = snapshot();
+            return state.get(SUCCESS_MESSAGE).isPresent()
+                    || state.get(SUCCESS_HEADING).isPresent()
+                    || TextQuery.on(driver).contains(SUCCESS_TEXT);
         } catch (Exception e) {
             return false;
         }
@@ -78,9 +116,7 @@ public class SuccessPage {
         } catch (Exception e) {
             // Fallback if element not visible yet
             try {
-                if (driver.findElements(By.id("success")).size() > 0) {
-                    return driver.findElement(By.id("success")).getText();
-                }
+                return snapshot().get(SUCCESS_HEADING).getText();
             } catch (Exception ex) {
                 // Continue to return empty
             }
@@ -106,8 +142,7 @@ public class SuccessPage {
         } catch (Exception e) {
             // Fallback check
             try {
-                return driver.findElements(By.id("dismiss-btn")).size() > 0 &&
-                        driver.findElement(By.id("dismiss-btn")).isDisplayed();
+                return snapshot().get(DISMISS_BUTTON).isVisible();
             } catch (Exception ex) {
                 return false;
             }
@@ -126,38 +161,18 @@ public class SuccessPage {
         } catch (Exception e) {
             // Continue to fallback
         }
-        // Fallback to page source
-        return driver.getPageSource().contains(expectedText);
+        // Fallback to the rendered page text, searched in the browser
+        return TextQuery.on(driver).visibleOnly().contains(expectedText);
     }
 
     /**
      * Wait for success page to appear
+     * Resolves in the browser the moment the success message or heading becomes visible
      */
     public boolean waitForSuccessPageToAppear() {
         try {
-            for (int i = 0; i < 20; i++) {
-                // Check if success message div is visible
-                if (driver.findElements(By.id("success-message")).size() > 0) {
-                    WebElement successMsg = driver.findElement(By.id("success-message"));
-                    String displayStyle = successMsg.getCssValue("display");
-                    if (!displayStyle.equals("none") && successMsg.isDisplayed()) {
-                        return true;
-                    }
-                }
-                // Check if heading is visible
-                if (driver.findElements(By.id("success")).size() > 0) {
-                    WebElement heading = driver.findElement(By.id("success"));
-                    if (heading.isDisplayed()) {
-                        return true;
-                    }
-                }
-                // Check page source as fallback
-                if (driver.getPageSource().contains("Thanks for subscribing")) {
-                    return true;
-                }
-                Thread.sleep(500);
-            }
-            return false;
+            return DomWatcher.awaitVisible(driver, SUCCESS_MESSAGE + ", " + SUCCESS_HEADING,
+                    SUCCESS_TEXT, Duration.ofSeconds(SUCCESS_TIMEOUT_SECONDS));
         } catch (Exception e) {
             return false;
         }
@@ -173,9 +188,7 @@ public class SuccessPage {
         } catch (Exception e) {
             // Fallback
             try {
-                if (driver.findElements(By.id("user-email")).size() > 0) {
-                    return driver.findElement(By.id("user-email")).getText();
-                }
+                return snapshot().get(USER_EMAIL).getText();
             } catch (Exception ex) {
                 // Continue to return empty
             }
@@ -0,0 +1,88 @@
+package com.qa.utils;
+
+import com.qa.metrics.LocatorCacheStats;
+import org.openqa.selenium.By;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.pagefactory.Annotations;
+import org.openqa.selenium.support.pagefactory.ElementLocator;
+import org.openqa.selenium.support.pagefactory.ElementLocatorFactory;
+
+import java.lang.reflect.Field;
+import java.util.List;
+
+/**
+ * CachingElementLocatorFactory - Element locators that resolve each @FindBy once per page instance
+ * The first access runs findElement; later accesses reuse the element until it goes stale,
+ * see {@link CachingFieldDecorator} for the transparent re-resolve
+ */
+public class CachingElementLocatorFactory implements ElementLocatorFactory {
+
+    private final SearchContext searchContext;
+    private final LocatorCacheStats stats = LocatorCacheStats.create();
+
+    public CachingElementLocatorFactory(SearchContext searchContext) {
+        this.searchContext = searchContext;
+    }
+
+    @Override
+    public CachingElementLocator createLocator(Field field) {
+        return new CachingElementLocator(searchContext, new Annotations(field).buildBy(), stats);
+    }
+
+    /**
+     * Hit/miss counters of every locator created by this factory
+     */
+    public LocatorCacheStats getStats() {
+        return stats;
+    }
+
+    /**
+     * CachingElementLocator - Locator holding the last resolved element
+     */
+    public static class CachingElementLocator implements ElementLocator {
+
+        private final SearchContext searchContext;
+        private final By by;
+        private final LocatorCacheStats stats;
+        private volatile WebElement cached;
+
+        CachingElementLocator(SearchContext searchContext, By by, LocatorCacheStats stats) {
+            this.searchContext = searchContext;
+            this.by = by;
+            this.stats = stats;
+        }
+
+        @Override
+        public WebElement findElement() {
+            WebElement element = cached;
+            if (element != null) {
+                stats.hit();
+                return element;
+            }
+            stats.miss();
+            element = searchContext.findElement(by);
+            cached = element;
+            return element;
+        }
+
+        @Override
+        public List<WebElement> findElements() {
+            stats.miss();
+            return searchContext.findElements(by);
+        }
+
+        /**
+         * Drop the cached element after it went stale
+         */
+        public void invalidate() {
+            cached = null;
+            stats.staleRetry();
+        }
+
+        @Override
+        public String toString() {
+            return "CachingElementLocator '" + by + "'";
+        }
+    }
+}
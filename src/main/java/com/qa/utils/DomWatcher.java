@@ -0,0 +1,131 @@
+package com.qa.utils;
+
+import org.openqa.selenium.JavascriptException;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchSessionException;
+import org.openqa.selenium.ScriptTimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * DomWatcher - Event-driven waits that resolve inside the browser
+ * Installs a MutationObserver with a single async script call and returns
+ * as soon as the DOM reaches the expected state, instead of polling over the wire
+ */
+public final class DomWatcher {
+
+    /**
+     * Async script: resolves with the first selector whose element is visible
+     * (or the fallback text once the rendered text contains it), null when the timeout elapses
+     */
+    private static final String AWAIT_VISIBLE_SCRIPT =
+            "var selectors = arguments[0], text = arguments[1], timeoutMs = arguments[2];\n" +
+            "var done = arguments[arguments.length - 1];\n" +
+            "function visible(el) {\n" +
+            "  var s = window.getComputedStyle(el);\n" +
+            "  return s.display !== 'none' && s.visibility !== 'hidden' && s.opacity !== '0'\n" +
+            "      && el.getClientRects().length > 0;\n" +
+            "}\n" +
+            "function match() {\n" +
+            "  for (var i = 0; i < selectors.length; i++) {\n" +
+            "    var els = document.querySelectorAll(selectors[i]);\n" +
+            "    for (var j = 0; j < els.length; j++) { if (visible(els[j])) return selectors[i]; }\n" +
+            "  }\n" +
+            "  if (text && document.body && document.body.innerText.indexOf(text) >= 0) return text;\n" +
+            "  return null;\n" +
+            "}\n" +
+            "var initial = match();\n" +
+            "if (initial !== null) { done(initial); return; }\n" +
+            "var timer, observer;\n" +
+            "function finish(result) {\n" +
+            "  observer.disconnect(); clearTimeout(timer);\n" +
+            "  document.removeEventListener('transitionend', check, true);\n" +
+            "  document.removeEventListener('animationend', check, true);\n" +
+            "  done(result);\n" +
+            "}\n" +
+            "function check() { var m = match(); if (m !== null) finish(m); }\n" +
+            "observer = new MutationObserver(check);\n" +
+            "observer.observe(document.documentElement,\n" +
+            "    {subtree: true, childList: true, attributes: true, characterData: true});\n" +
+            "document.addEventListener('transitionend', check, true);\n" +
+            "document.addEventListener('animationend', check, true);\n" +
+            "timer = setTimeout(function () { finish(match()); }, timeoutMs);";
+
+    private static final long SCRIPT_TIMEOUT_MARGIN_MS = 1000;
+    private static final long RETRY_BACKOFF_MS = 50;
+
+    private DomWatcher() {
+    }
+
+    /**
+     * Wait until an element matching the CSS selector becomes visible
+     * @param cssSelector - selector of the element(s) to watch
+     * @param fallbackText - rendered text that also counts as visible, may be null
+     * @param timeout - total time budget
+     * @return true as soon as the condition holds, false after the timeout
+     */
+    public static boolean awaitVisible(WebDriver driver, String cssSelector, String fallbackText, Duration timeout) {
+        return awaitFirstVisible(driver, timeout, fallbackText, cssSelector).isPresent();
+    }
+
+    /**
+     * Wait until any of several elements becomes visible and report which one did
+     * @param fallbackText - rendered text that also counts as a match, may be null
+     * @param cssSelectors - candidates, checked in order
+     * @return the first visible selector (or the fallback text), empty after the timeout
+     * @throws JavascriptException if the script itself fails, e.g. on an invalid selector
+     */
+    public static Optional<String> awaitFirstVisible(WebDriver driver, Duration timeout, String fallbackText,
+                                                     String... cssSelectors) {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        long scriptBudgetMs = Math.max(SCRIPT_TIMEOUT_MARGIN_MS,
+                driver.manage().timeouts().getScriptTimeout().toMillis() - SCRIPT_TIMEOUT_MARGIN_MS);
+
+        while (true) {
+            long remainingMs = Duration.ofNanos(deadline - System.nanoTime()).toMillis();
+            if (remainingMs <= 0) {
+                return Optional.empty();
+            }
+            try {
+                Object result = ((JavascriptExecutor) driver).executeAsyncScript(AWAIT_VISIBLE_SCRIPT,
+                        Arrays.asList(cssSelectors), fallbackText, Math.min(remainingMs, scriptBudgetMs));
+                if (result != null) {
+                    return Optional.of(result.toString());
+                }
+            } catch (NoSuchSessionException e) {
+                throw e;
+            } catch (ScriptTimeoutException e) {
+                // Browser was too busy to fire the in-page timer; loop re-checks the budget
+            } catch (JavascriptException e) {
+                // Document was replaced while observing (e.g. form navigation); observe the new one.
+                // Any other script error (bad selector, ...) fails the same way on every attempt
+                if (!isDocumentUnloaded(e)) {
+                    throw e;
+                }
+                backOff(deadline);
+            } catch (WebDriverException e) {
+                // Transient driver error; retry without hammering the driver
+                backOff(deadline);
+            }
+        }
+    }
+
+    private static boolean isDocumentUnloaded(JavascriptException e) {
+        return String.valueOf(e.getMessage()).toLowerCase(Locale.ROOT).contains("unloaded");
+    }
+
+    private static void backOff(long deadline) {
+        long remainingMs = Duration.ofNanos(deadline - System.nanoTime()).toMillis();
+        try {
+            Thread.sleep(Math.max(0, Math.min(RETRY_BACKOFF_MS, remainingMs)));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting", e);
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.qa.utils;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * ElementState - Immutable state of one element captured by {@link PageState}
+ */
+public final class ElementState {
+
+    private final String selector;
+    private final boolean present;
+    private final boolean visible;
+    private final boolean enabled;
+    private final String display;
+    private final String visibility;
+    private final String opacity;
+    private final String text;
+    private final String value;
+    private final Map<String, String> attributes;
+
+    ElementState(String selector, boolean present, boolean visible, boolean enabled, String display,
+                 String visibility, String opacity, String text, String value, Map<String, String> attributes) {
+        this.selector = selector;
+        this.present = present;
+        this.visible = visible;
+        this.enabled = enabled;
+        this.display = display;
+        this.visibility = visibility;
+        this.opacity = opacity;
+        this.text = text;
+        this.value = value;
+        this.attributes = Collections.unmodifiableMap(attributes);
+    }
+
+    /**
+     * State of an element that did not match anything on the page
+     */
+    static ElementState absent(String selector) {
+        return new ElementState(selector, false, false, false, "", "", "", "", "", Collections.emptyMap());
+    }
+
+    public String getSelector() {
+        return selector;
+    }
+
+    /**
+     * Element exists in the DOM
+     */
+    public boolean isPresent() {
+        return present;
+    }
+
+    /**
+     * Element is rendered: not display:none, not visibility:hidden, not fully transparent and has a layout box
+     */
+    public boolean isVisible() {
+        return visible;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public String getDisplay() {
+        return display;
+    }
+
+    public String getVisibility() {
+        return visibility;
+    }
+
+    public String getOpacity() {
+        return opacity;
+    }
+
+    /**
+     * Rendered text, trimmed
+     */
+    public String getText() {
+        return text;
+    }
+
+    /**
+     * Current value property (for form fields)
+     */
+    public String getValue() {
+        return value;
+    }
+
+    /**
+     * Attribute value, or null if the attribute is not set
+     */
+    public String getAttribute(String name) {
+        return attributes.get(name);
+    }
+
+    public Map<String, String> getAttributes() {
+        return attributes;
+    }
+
+    @Override
+    public String toString() {
+        return "ElementState{" + selector + ", present=" + present + ", visible=" + visible
+                + ", text='" + text + "'}";
+    }
+}
@@ -0,0 +1,46 @@
+package com.qa.utils;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * PageReadiness - Waits for the elements a page object actually needs instead of the full page load
+ * Used with the eager / none page load strategies: navigation returns early and the page object's
+ * critical elements gate the test. Each poll is a single executeScript call.
+ */
+public final class PageReadiness {
+
+    /**
+     * True once the parser has finished (handlers in end-of-body scripts are attached)
+     * and every selector matches a visible, enabled element
+     */
+    private static final String READY_SCRIPT =
+            "if (document.readyState === 'loading') return false;\n" +
+            "var selectors = arguments[0];\n" +
+            "for (var i = 0; i < selectors.length; i++) {\n" +
+            "  var el = document.querySelector(selectors[i]);\n" +
+            "  if (!el || el.disabled) return false;\n" +
+            "  var s = window.getComputedStyle(el);\n" +
+            "  if (s.display === 'none' || s.visibility === 'hidden' || el.getClientRects().length === 0) return false;\n" +
+            "}\n" +
+            "return true;";
+
+    private PageReadiness() {
+    }
+
+    /**
+     * Wait until every critical element is interactive
+     * @param criticalSelectors - CSS selectors declared by the page object
+     * @throws TimeoutException if the page is not ready within the timeout
+     */
+    public static void await(WebDriver driver, Duration timeout, String... criticalSelectors) {
+        List<String> selectors = Arrays.asList(criticalSelectors);
+        WaitEngine.on(driver).until(d -> Boolean.TRUE.equals(
+                ((JavascriptExecutor) d).executeScript(READY_SCRIPT, selectors)), timeout);
+    }
+}
@@ -0,0 +1,70 @@
+package com.qa.utils;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import java.util.List;
+
+/**
+ * PageSnapshot - Frozen copy of a loaded page for read-only assertions
+ * Holds the serialized DOM plus the {@link PageState} of the selectors a page object declares,
+ * so static checks (text, visibility, attributes) can run without a live session
+ *
+ * Switched off with -Dpage.snapshot=false, which makes every test load the page itself
+ */
+public final class PageSnapshot {
+
+    private static final String DOM_SCRIPT =
+            "return [document.location.href, document.documentElement.outerHTML];";
+
+    private final String url;
+    private final String html;
+    private final PageState state;
+
+    private PageSnapshot(String url, String html, PageState state) {
+        this.url = url;
+        this.html = html;
+        this.state = state;
+    }
+
+    /**
+     * Check if read-only tests may share one snapshot instead of loading the page themselves
+     */
+    public static boolean isEnabled() {
+        return Boolean.parseBoolean(System.getProperty("page.snapshot", "true"));
+    }
+
+    /**
+     * Capture the DOM and the state of every selector from the current page
+     * @param selectors - CSS selectors to capture; only these can be queried later
+     */
+    public static PageSnapshot capture(WebDriver driver, String... selectors) {
+        List<?> dom = (List<?>) ((JavascriptExecutor) driver).executeScript(DOM_SCRIPT);
+        return new PageSnapshot(String.valueOf(dom.get(0)), String.valueOf(dom.get(1)),
+                PageState.capture(driver, selectors));
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    /**
+     * Serialized DOM at capture time
+     */
+    public String getHtml() {
+        return html;
+    }
+
+    /**
+     * Computed state of the captured selectors
+     */
+    public PageState getState() {
+        return state;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("PageSnapshot[%s, %d chars, %d elements]", url, html.length(),
+                state.getElements().size());
+    }
+}
@@ -0,0 +1,108 @@
+package com.qa.utils;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * PageState - Immutable snapshot of several elements taken with a single executeScript call
+ * Replaces chains of findElements / getCssValue / isDisplayed / getText round trips
+ */
+public final class PageState {
+
+    /**
+     * Collects display, visibility, opacity, text, value and attributes for each selector
+     */
+    private static final String CAPTURE_SCRIPT =
+            "var selectors = arguments[0], result = {};\n" +
+            "for (var i = 0; i < selectors.length; i++) {\n" +
+            "  var el = document.querySelector(selectors[i]);\n" +
+            "  if (!el) { continue; }\n" +
+            "  var s = window.getComputedStyle(el), attrs = {};\n" +
+            "  for (var j = 0; j < el.attributes.length; j++) {\n" +
+            "    attrs[el.attributes[j].name] = el.attributes[j].value;\n" +
+            "  }\n" +
+            "  result[selectors[i]] = {\n" +
+            "    display: s.display, visibility: s.visibility, opacity: s.opacity,\n" +
+            "    visible: s.display !== 'none' && s.visibility !== 'hidden' && s.opacity !== '0'\n" +
+            "        && el.getClientRects().length > 0,\n" +
+            "    enabled: !el.disabled,\n" +
+            "    text: (el.innerText || '').trim(),\n" +
+            "    value: el.value === undefined || el.value === null ? '' : String(el.value),\n" +
+            "    attributes: attrs\n" +
+            "  };\n" +
+            "}\n" +
+            "return result;";
+
+    private final Map<String, ElementState> elements;
+
+    private PageState(Map<String, ElementState> elements) {
+        this.elements = Collections.unmodifiableMap(elements);
+    }
+
+    /**
+     * Capture the state of every selector in one round trip
+     * @param selectors - CSS selectors; the first match of each is captured
+     */
+    @SuppressWarnings("unchecked")
+    public static PageState capture(WebDriver driver, String... selectors) {
+        List<String> requested = Arrays.asList(selectors);
+        Object raw = ((JavascriptExecutor) driver).executeScript(CAPTURE_SCRIPT, requested);
+        Map<String, Object> found = raw instanceof Map ? (Map<String, Object>) raw : Collections.emptyMap();
+
+        Map<String, ElementState> elements = new LinkedHashMap<>();
+        for (String selector : requested) {
+            Object entry = found.get(selector);
+            elements.put(selector, entry instanceof Map
+                    ? toElementState(selector, (Map<String, Object>) entry)
+                    : ElementState.absent(selector));
+        }
+        return new PageState(elements);
+    }
+
+    /**
+     * State of a captured selector
+     * @throws IllegalArgumentException if the selector was not part of the capture
+     */
+    public ElementState get(String selector) {
+        ElementState state = elements.get(selector);
+        if (state == null) {
+            throw new IllegalArgumentException("Selector was not captured: " + selector);
+        }
+        return state;
+    }
+
+    public Map<String, ElementState> getElements() {
+        return elements;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ElementState toElementState(String selector, Map<String, Object> entry) {
+        Map<String, String> attributes = new HashMap<>();
+        Object rawAttributes = entry.get("attributes");
+        if (rawAttributes instanceof Map) {
+            ((Map<String, Object>) rawAttributes).forEach((name, value) -> attributes.put(name, String.valueOf(value)));
+        }
+        return new ElementState(
+                selector,
+                true,
+                Boolean.TRUE.equals(entry.get("visible")),
+                Boolean.TRUE.equals(entry.get("enabled")),
+                asString(entry.get("display")),
+                asString(entry.get("visibility")),
+                asString(entry.get("opacity")),
+                asString(entry.get("text")),
+                asString(entry.get("value")),
+                attributes);
+    }
+
+    private static String asString(Object value) {
+        return value == null ? "" : String.valueOf(value);
+    }
+}
@@ -0,0 +1,89 @@
+package com.qa.utils;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * TextQuery - Text search executed inside the browser
+ * Only the answer (a boolean or match offsets) crosses the wire, instead of the
+ * whole serialized DOM that getPageSource() transfers
+ */
+public final class TextQuery {
+
+    /**
+     * Returns null if the scope does not exist, otherwise up to maxMatches offsets of the text
+     */
+    private static final String SEARCH_SCRIPT =
+            "var scope = arguments[0], visibleOnly = arguments[1], needle = arguments[2], maxMatches = arguments[3];\n" +
+            "var root = scope ? document.querySelector(scope) : document.body;\n" +
+            "if (!root) return null;\n" +
+            "var haystack = visibleOnly ? root.innerText : root.textContent;\n" +
+            "var offsets = [], from = 0, at;\n" +
+            "while (offsets.length < maxMatches && (at = haystack.indexOf(needle, from)) >= 0) {\n" +
+            "  offsets.push(at); from = at + Math.max(needle.length, 1);\n" +
+            "}\n" +
+            "return offsets;";
+
+    private static final int DEFAULT_MAX_MATCHES = 100;
+
+    private final WebDriver driver;
+    private final String scope;
+    private final boolean visibleOnly;
+
+    private TextQuery(WebDriver driver, String scope, boolean visibleOnly) {
+        this.driver = driver;
+        this.scope = scope;
+        this.visibleOnly = visibleOnly;
+    }
+
+    /**
+     * Query over the whole document, hidden text included (same coverage as getPageSource)
+     */
+    public static TextQuery on(WebDriver driver) {
+        return new TextQuery(driver, null, false);
+    }
+
+    /**
+     * Restrict the search to the first element matching the CSS selector
+     */
+    public TextQuery within(String cssSelector) {
+        return new TextQuery(driver, cssSelector, visibleOnly);
+    }
+
+    /**
+     * Only search rendered text (skips display:none and visibility:hidden content)
+     */
+    public TextQuery visibleOnly() {
+        return new TextQuery(driver, scope, true);
+    }
+
+    /**
+     * Check if the text occurs in scope
+     */
+    public boolean contains(String text) {
+        return !search(text, 1).isEmpty();
+    }
+
+    /**
+     * Character offsets of every occurrence (capped at 100), relative to the scope's text
+     */
+    public List<Integer> offsets(String text) {
+        return search(text, DEFAULT_MAX_MATCHES);
+    }
+
+    private List<Integer> search(String text, int maxMatches) {
+        Object raw = ((JavascriptExecutor) driver).executeScript(SEARCH_SCRIPT, scope, visibleOnly, text, maxMatches);
+        if (!(raw instanceof List)) {
+            return Collections.emptyList();
+        }
+        List<Integer> offsets = new ArrayList<>();
+        for (Object offset : (List<?>) raw) {
+            offsets.add(((Number) offset).intValue());
+        }
+        return offsets;
+    }
+}
@@ -0,0 +1,149 @@
+package com.qa.utils;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.NotFoundException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * WaitEngine - Single place for every wait in the suite
+ * Drivers run without implicit waits, so presence and absence probes return immediately
+ * and only explicit waits spend time. Polling starts fast and backs off exponentially.
+ *
+ * Defaults come from system properties:
+ * wait.timeout.ms (15000), wait.poll.initial.ms (50), wait.poll.max.ms (500), wait.poll.multiplier (2.0)
+ */
+public final class WaitEngine {
+
+    private final WebDriver driver;
+    private final Duration timeout;
+    private final Duration initialPoll;
+    private final Duration maxPoll;
+    private final double multiplier;
+
+    private WaitEngine(WebDriver driver, Duration timeout, Duration initialPoll, Duration maxPoll, double multiplier) {
+        if (multiplier < 1.0) {
+            throw new IllegalArgumentException("Polling multiplier must be >= 1.0, was " + multiplier);
+        }
+        this.driver = driver;
+        this.timeout = timeout;
+        this.initialPoll = initialPoll;
+        this.maxPoll = maxPoll;
+        this.multiplier = multiplier;
+    }
+
+    /**
+     * Wait engine for a driver with the configured default timeout and polling
+     */
+    public static WaitEngine on(WebDriver driver) {
+        return new WaitEngine(driver,
+                Duration.ofMillis(Long.getLong("wait.timeout.ms", 15_000)),
+                Duration.ofMillis(Long.getLong("wait.poll.initial.ms", 50)),
+                Duration.ofMillis(Long.getLong("wait.poll.max.ms", 500)),
+                Double.parseDouble(System.getProperty("wait.poll.multiplier", "2.0")));
+    }
+
+    /**
+     * Copy of this engine with a different default timeout
+     */
+    public WaitEngine withTimeout(Duration newTimeout) {
+        return new WaitEngine(driver, newTimeout, initialPoll, maxPoll, multiplier);
+    }
+
+    /**
+     * Copy of this engine with a different polling backoff
+     */
+    public WaitEngine withPolling(Duration newInitialPoll, Duration newMaxPoll, double newMultiplier) {
+        return new WaitEngine(driver, timeout, newInitialPoll, newMaxPoll, newMultiplier);
+    }
+
+    /**
+     * Wait until the condition returns a non-null, non-false value within the default timeout
+     * @throws TimeoutException if the condition is not met in time
+     */
+    public <T> T until(Function<? super WebDriver, T> condition) {
+        return until(condition, timeout);
+    }
+
+    /**
+     * Wait until the condition returns a non-null, non-false value within the given budget
+     * @throws TimeoutException if the condition is not met in time
+     */
+    public <T> T until(Function<? super WebDriver, T> condition, Duration budget) {
+        long deadline = System.nanoTime() + budget.toNanos();
+        long pollMillis = initialPoll.toMillis();
+        RuntimeException lastError = null;
+
+        while (true) {
+            try {
+                T value = condition.apply(driver);
+                if (value != null && !Boolean.FALSE.equals(value)) {
+                    return value;
+                }
+            } catch (NotFoundException | StaleElementReferenceException e) {
+                lastError = e;
+            }
+
+            long remainingMillis = Duration.ofNanos(deadline - System.nanoTime()).toMillis();
+            if (remainingMillis <= 0) {
+                throw new TimeoutException(String.format("Expected condition failed: %s (tried for %d ms)",
+                        condition, budget.toMillis()), lastError);
+            }
+            sleep(Math.min(pollMillis, remainingMillis));
+            pollMillis = Math.min(maxPoll.toMillis(), Math.max(1, (long) (pollMillis * multiplier)));
+        }
+    }
+
+    /**
+     * Like {@link #until(Function)} but reports a timeout as false instead of throwing
+     */
+    public boolean check(Function<? super WebDriver, ?> condition) {
+        return check(condition, timeout);
+    }
+
+    /**
+     * Like {@link #until(Function, Duration)} but reports a timeout as false instead of throwing
+     */
+    public boolean check(Function<? super WebDriver, ?> condition, Duration budget) {
+        try {
+            until(condition, budget);
+            return true;
+        } catch (TimeoutException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Immediate presence probe; never waits
+     */
+    public boolean isPresent(By locator) {
+        return !driver.findElements(locator).isEmpty();
+    }
+
+    /**
+     * Immediate absence probe; never waits
+     */
+    public boolean isAbsent(By locator) {
+        return driver.findElements(locator).isEmpty();
+    }
+
+    /**
+     * Wait until no element matches the locator, within the given budget
+     */
+    public boolean awaitAbsent(By locator, Duration budget) {
+        return check(d -> d.findElements(locator).isEmpty(), budget);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting", e);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+(function () {
+  var EMAIL_PATTERN = /^[^\s@]+@[^\s@]+\.[^\s@]+$/;
+
+  var card = document.getElementById('signup-card');
+  var form = document.getElementById('signup-form');
+  var email = document.getElementById('email');
+  var error = document.getElementById('email-error');
+  var success = document.getElementById('success-message');
+  var userEmail = document.getElementById('user-email');
+  var dismiss = document.getElementById('dismiss-btn');
+
+  function showError(show) {
+    error.classList.toggle('active', show);
+    email.classList.toggle('invalid', show);
+  }
+
+  form.addEventListener('submit', function (event) {
+    event.preventDefault();
+    var value = email.value.trim();
+    if (!EMAIL_PATTERN.test(value)) {
+      showError(true);
+      return;
+    }
+    showError(false);
+    userEmail.textContent = value;
+    card.classList.add('hidden');
+    success.classList.remove('hidden');
+  });
+
+  email.addEventListener('input', function () {
+    showError(false);
+  });
+
+  dismiss.addEventListener('click', function () {
+    form.reset();
+    showError(false);
+    userEmail.textContent = '';
+    success.classList.add('hidden');
+    card.classList.remove('hidden');
+  });
+})();
@@ -1,72 +1,184 @@
 package com.qa.base;
 
+import com.qa.config.TargetProbe;
+import com.qa.config.TestTarget;
 import com.qa.factory.DriverFactory;
+import com.qa.factory.EngineLevel;
+import com.qa.metrics.NavigationTiming;
+import com.qa.pages.NewsletterPage;
+import com.qa.utils.PageSnapshot;
+import com.qa.utils.WaitEngine;
 import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assumptions;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.extension.ExtendWith;
 import org.openqa.selenium.WebDriver;
-import org.openqa.selenium.support.ui.WebDriverWait;
 
 import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * BaseTest - Parent class for all test classes
  * Handles common setup and teardown operations
+ * A fresh instance is created per test method, so the driver and wait fields
+ * are never shared between concurrently running tests.
+ * Tests run on -Dbrowser; those marked {@link RequiresEngine}(DOM) move to -Dbrowser.dom when it is set
+ * Tests marked {@link ReadOnlyPage} share one page snapshot per engine and get no driver
  */
+@TestInstance(TestInstance.Lifecycle.PER_METHOD)
+@ExtendWith({LifecycleTimingExtension.class, CommandMetricsExtension.class, EngineSelectionExtension.class,
+        FailureArtifactsExtension.class})
 public class BaseTest {
 
     protected WebDriver driver;
-    protected WebDriverWait wait;
+    protected WaitEngine wait;
 
-    // Configuration
-    protected static final String BASE_URL = "https://newsletter-sign-up-form-ntes.onrender.com/";
+    // Configuration (local fixture server by default, -Dtarget=remote for the hosted site)
+    protected static final String BASE_URL = TestTarget.baseUrl();
     protected static final int EXPLICIT_WAIT_SECONDS = 15;
     private static final String DEFAULT_BROWSER = "chrome";
 
+    // Set by EngineSelectionExtension from the test's @RequiresEngine and @ReadOnlyPage
+    EngineLevel requiredEngine = EngineLevel.RENDERING;
+    boolean readOnlyPage;
+
+    // Time spent obtaining the session in setUp, read by LifecycleTimingExtension
+    long sessionStartupNanos;
+
+    // One page load per browser serves every read-only test in the run; run by the first test
+    // that needs it, outside the map, while the others wait on the same task
+    private static final ConcurrentMap<String, FutureTask<PageSnapshot>> snapshots = new ConcurrentHashMap<>();
+    private static final AtomicBoolean targetFailureReported = new AtomicBoolean();
+    private PageSnapshot snapshot;
+
     /**
      * Setup method - runs before each test
      * Initializes WebDriver and navigates to base URL
      */
     @BeforeEach
     public void setUp() {
-        // Get browser from system property or use default
-        String browser = System.getProperty("browser", DEFAULT_BROWSER);
+        // Get browser from system property or use default; DOM-only tests may opt into a lighter engine
+        String browser = browserFor(requiredEngine);
+        Assumptions.assumeTrue(DriverFactory.engineLevel(browser).satisfies(requiredEngine),
+                () -> "Test needs a " + requiredEngine + " engine, " + browser + " is not one");
+
+        // Fail fast with the shared probe result if the target never came up; waiting here
+        // keeps a pooled browser free for other tests while the target is still starting
+        awaitTarget();
 
-        // Initialize driver using factory
+        if (readOnlyPage && PageSnapshot.isEnabled()) {
+            snapshot = sharedSnapshot(browser);
+            return;
+        }
+
+        // Initialize driver using factory; a pooled session makes this close to zero
+        long sessionStart = System.nanoTime();
         driver = DriverFactory.initializeDriver(browser);
+        sessionStartupNanos = System.nanoTime() - sessionStart;
 
         // Initialize explicit wait
-        wait = new WebDriverWait(driver, Duration.ofSeconds(EXPLICIT_WAIT_SECONDS));
+        wait = WaitEngine.on(driver).withTimeout(Duration.ofSeconds(EXPLICIT_WAIT_SECONDS));
 
-        // Navigate to base URL
+        // Navigate to base URL; with -Dpage.load.strategy=eager|none the page object's
+        // critical elements decide when the test may start, not the full page load
+        long start = System.nanoTime();
         driver.get(BASE_URL);
+        long loaded = System.nanoTime();
+        new NewsletterPage(driver).awaitReady();
+        if (NavigationTiming.isEnabled()) {
+            NavigationTiming.record(DriverFactory.getPageLoadStrategy().toString(), loaded - start,
+                    System.nanoTime() - loaded);
+        }
     }
 
     /**
-     * Teardown method - runs after each test
-     * Quits the WebDriver instance
+     * Engine a test with the given requirement runs on: -Dbrowser, or -Dbrowser.dom for DOM-only
+     * tests when it is set
      */
-    @AfterEach
-    public void tearDown() {
-        DriverFactory.quitDriver();
+    static String browserFor(EngineLevel requiredEngine) {
+        String browser = System.getProperty("browser", DEFAULT_BROWSER);
+        return requiredEngine == EngineLevel.DOM ? System.getProperty("browser.dom", browser) : browser;
+    }
+
+    /**
+     * The browser's page snapshot, loading it if this is the first read-only test;
+     * a failed load is not kept, so the next read-only test tries again
+     */
+    private static PageSnapshot sharedSnapshot(String browser) {
+        FutureTask<PageSnapshot> load = new FutureTask<>(() -> loadSnapshot(browser));
+        FutureTask<PageSnapshot> shared = snapshots.putIfAbsent(browser, load);
+        if (shared == null) {
+            shared = load;
+            load.run();
+        }
+        try {
+            return shared.get();
+        } catch (ExecutionException e) {
+            snapshots.remove(browser, shared);
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw new IllegalStateException("Could not load the page snapshot", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for the page snapshot", e);
+        }
     }
 
     /**
-     * Utility method to add visual delay (for local debugging only)
-     * Does not run in CI environment
+     * Wait for the target probe; once it failed, only the first test reports the probe's message
+     * and the rest of the run is skipped, as PrewarmLauncherListener already aborted it
      */
-    protected void pause(int milliseconds) {
-        if (System.getenv("CI") == null) {
-            try {
-                Thread.sleep(2000);
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-                throw new RuntimeException("Thread was interrupted", e);
+    private static void awaitTarget() {
+        try {
+            TargetProbe.awaitReady();
+        } catch (IllegalStateException e) {
+            if (targetFailureReported.compareAndSet(false, true)) {
+                throw e;
             }
+            Assumptions.abort("Run aborted, the target is not ready: " + e.getMessage());
         }
     }
 
     /**
-     * Get current driver instance
+     * Load the page once on a pooled session and capture what the page objects read
+     */
+    private static PageSnapshot loadSnapshot(String browser) {
+        WebDriver webDriver = DriverFactory.initializeDriver(browser);
+        try {
+            webDriver.get(BASE_URL);
+            return new NewsletterPage(webDriver).awaitReady().captureSnapshot();
+        } finally {
+            DriverFactory.releaseDriver();
+        }
+    }
+
+    /**
+     * Newsletter page object for this test: snapshot-backed for read-only tests, live otherwise
+     */
+    protected NewsletterPage newsletterPage() {
+        return snapshot != null ? NewsletterPage.fromSnapshot(snapshot) : new NewsletterPage(driver);
+    }
+
+    /**
+     * Teardown method - runs after each test
+     * Returns the WebDriver instance to the session pool
+     */
+    @AfterEach
+    public void tearDown() {
+        DriverFactory.releaseDriver();
+    }
+
+    /**
+     * Get current driver instance; null for read-only tests served from the page snapshot
      */
     protected WebDriver getDriver() {
         return driver;
@@ -75,7 +187,7 @@ public class BaseTest {
     /**
      * Get current wait instance
      */
-    protected WebDriverWait getWait() {
+    protected WaitEngine getWait() {
         return wait;
     }
 }
@@ -0,0 +1,39 @@
+package com.qa.base;
+
+import com.qa.metrics.CommandMetrics;
+import com.qa.metrics.NavigationTiming;
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+/**
+ * CommandMetricsExtension - Attributes WebDriver command timings to the running test
+ * Runs around setUp/tearDown so navigation and cleanup count towards the test,
+ * and exports the command and navigation reports once the whole run has finished
+ */
+public class CommandMetricsExtension implements BeforeEachCallback, AfterEachCallback {
+
+    private static final ExtensionContext.Namespace NAMESPACE =
+            ExtensionContext.Namespace.create(CommandMetricsExtension.class);
+
+    @Override
+    public void beforeEach(ExtensionContext context) {
+        if (NavigationTiming.isEnabled()) {
+            context.getRoot().getStore(NAMESPACE).getOrComputeIfAbsent("navigation",
+                    key -> (ExtensionContext.Store.CloseableResource) NavigationTiming::export);
+        }
+        if (!CommandMetrics.isEnabled()) {
+            return;
+        }
+        // Closed by JUnit when the root context ends, i.e. after the last test
+        context.getRoot().getStore(NAMESPACE).getOrComputeIfAbsent("export",
+                key -> (ExtensionContext.Store.CloseableResource) CommandMetrics::export);
+        CommandMetrics.startTest(context.getRequiredTestClass().getSimpleName() + "."
+                + context.getRequiredTestMethod().getName());
+    }
+
+    @Override
+    public void afterEach(ExtensionContext context) {
+        CommandMetrics.endTest();
+    }
+}
@@ -0,0 +1,195 @@
+package com.qa.base;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * DurationHistory - Recorded duration of each test method, keyed by class#method
+ * Kept in a properties file (-Dtest.history.file, default .test-durations.properties) as an
+ * exponential moving average so one slow run does not reshuffle every shard.
+ * Forks and CI nodes update the file under a file lock; share it between CI nodes (e.g. with
+ * a build cache) so every node computes the same shards.
+ *
+ * Sharded runs leave the file untouched, so shards that start later still see the history the
+ * first one planned with; each writes its measurements to a .shard-N file next to it instead,
+ * and {@link MergeShardDurations} folds those into the history once every shard has finished.
+ */
+final class DurationHistory {
+
+    private static final Logger log = LoggerFactory.getLogger(DurationHistory.class);
+    private static final double WEIGHT_OF_NEW_SAMPLE = 0.5;
+    private static final long DEFAULT_DURATION_MS = 5_000;
+
+    private final Map<String, Long> durations;
+
+    private DurationHistory(Map<String, Long> durations) {
+        this.durations = Collections.unmodifiableMap(durations);
+    }
+
+    static Path file() {
+        return Paths.get(System.getProperty("test.history.file", ".test-durations.properties"));
+    }
+
+    /**
+     * Per-shard measurements of a sharded run, merged later by {@link #mergeShards()}
+     */
+    static Path shardFile(int index) {
+        Path file = file();
+        return file.resolveSibling(file.getFileName() + ".shard-" + index);
+    }
+
+    /**
+     * History as currently stored; empty if there is no file yet
+     */
+    static DurationHistory load() {
+        try (FileChannel channel = open()) {
+            FileLock lock = channel.lock(0, Long.MAX_VALUE, true);
+            try {
+                return new DurationHistory(parse(read(channel)));
+            } finally {
+                lock.release();
+            }
+        } catch (IOException e) {
+            log.warn("Could not read test duration history {}: {}", file(), e.getMessage());
+            return new DurationHistory(new HashMap<>());
+        }
+    }
+
+    /**
+     * Merge the durations measured in this run into the file
+     */
+    static void update(Map<String, Long> measuredMillis) {
+        if (measuredMillis.isEmpty()) {
+            return;
+        }
+        try (FileChannel channel = open()) {
+            FileLock lock = channel.lock();
+            try {
+                Map<String, Long> merged = parse(read(channel));
+                measuredMillis.forEach((test, millis) -> merged.merge(test, millis, (old, now) ->
+                        Math.round(old * (1 - WEIGHT_OF_NEW_SAMPLE) + now * WEIGHT_OF_NEW_SAMPLE)));
+
+                channel.truncate(0);
+                channel.write(ByteBuffer.wrap(
+                        format(merged, "Test method durations in ms, used for sharding (-Dshard.total)")), 0);
+            } finally {
+                lock.release();
+            }
+        } catch (IOException e) {
+            log.warn("Could not update test duration history {}: {}", file(), e.getMessage());
+        }
+    }
+
+    /**
+     * Write the durations measured by one shard to its own file, replacing an earlier run of that shard
+     */
+    static void writeShard(int index, Map<String, Long> measuredMillis) {
+        if (measuredMillis.isEmpty()) {
+            return;
+        }
+        Path file = shardFile(index).toAbsolutePath();
+        try {
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            Files.write(file, format(measuredMillis, "Test method durations in ms measured by shard " + index));
+        } catch (IOException e) {
+            log.warn("Could not write shard durations {}: {}", file, e.getMessage());
+        }
+    }
+
+    /**
+     * Merge every .shard-N file into the history and delete it
+     * @return number of shard files merged
+     */
+    static int mergeShards() throws IOException {
+        Path file = file().toAbsolutePath();
+        Path directory = file.getParent() != null ? file.getParent() : Paths.get("").toAbsolutePath();
+        String prefix = file.getFileName() + ".shard-";
+        int merged = 0;
+        try (DirectoryStream<Path> shards = Files.newDirectoryStream(directory, prefix + "*")) {
+            for (Path shard : shards) {
+                update(parse(Files.readAllBytes(shard)));
+                Files.delete(shard);
+                merged++;
+            }
+        }
+        return merged;
+    }
+
+    /**
+     * Recorded duration, or the estimate for tests without history:
+     * the median of known tests, -Dshard.default.ms when nothing is known
+     */
+    long estimateMillis(String test) {
+        Long known = durations.get(test);
+        if (known != null) {
+            return known;
+        }
+        if (durations.isEmpty()) {
+            return Long.getLong("shard.default.ms", DEFAULT_DURATION_MS);
+        }
+        long[] sorted = durations.values().stream().mapToLong(Long::longValue).toArray();
+        Arrays.sort(sorted);
+        return sorted[sorted.length / 2];
+    }
+
+    boolean isKnown(String test) {
+        return durations.containsKey(test);
+    }
+
+    private static FileChannel open() throws IOException {
+        Path file = file().toAbsolutePath();
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        return FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+    }
+
+    private static byte[] read(FileChannel channel) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate((int) channel.size());
+        while (buffer.hasRemaining() && channel.read(buffer, buffer.position()) > 0) {
+            // keep reading until the whole file is in the buffer
+        }
+        return buffer.array();
+    }
+
+    private static byte[] format(Map<String, Long> durations, String comment) throws IOException {
+        Properties properties = new Properties();
+        durations.forEach((test, millis) -> properties.setProperty(test, Long.toString(millis)));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        properties.store(out, comment);
+        return out.toByteArray();
+    }
+
+    private static Map<String, Long> parse(byte[] content) throws IOException {
+        Properties properties = new Properties();
+        properties.load(new ByteArrayInputStream(content));
+        Map<String, Long> durations = new HashMap<>();
+        for (String test : properties.stringPropertyNames()) {
+            try {
+                durations.put(test, Long.parseLong(properties.getProperty(test).trim()));
+            } catch (NumberFormatException e) {
+                // Ignore hand-edited garbage
+            }
+        }
+        return durations;
+    }
+}
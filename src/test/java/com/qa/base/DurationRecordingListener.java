@@ -0,0 +1,55 @@
+package com.qa.base;
+
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.TestPlan;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DurationRecordingListener - Measures every test method and merges the result into {@link DurationHistory}
+ * Timed from start to finish including setUp and tearDown, which is what a shard has to pay.
+ * A sharded run (-Dshard.total above 1) writes to its own shard file instead, so the history
+ * other shards plan with does not change under them; see {@link MergeShardDurations}.
+ * Switched off with -Dtest.history.record=false
+ *
+ * Registered in META-INF/services
+ */
+public class DurationRecordingListener implements TestExecutionListener {
+
+    private final Map<String, Long> started = new ConcurrentHashMap<>();
+    private final Map<String, Long> measured = new ConcurrentHashMap<>();
+
+    @Override
+    public void executionStarted(TestIdentifier identifier) {
+        identifier.getSource().flatMap(ShardFilter::testKey)
+                .ifPresent(test -> started.putIfAbsent(identifier.getUniqueId(), System.nanoTime()));
+    }
+
+    @Override
+    public void executionFinished(TestIdentifier identifier, TestExecutionResult result) {
+        Long start = started.remove(identifier.getUniqueId());
+        // Skipped by an assumption: the time says nothing about the test
+        if (start == null || result.getStatus() == TestExecutionResult.Status.ABORTED) {
+            return;
+        }
+        long millis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        // A parameterized template and its invocations share one key; keep the template's total
+        identifier.getSource().flatMap(ShardFilter::testKey).ifPresent(test -> measured.merge(test, millis, Math::max));
+    }
+
+    @Override
+    public void testPlanExecutionFinished(TestPlan testPlan) {
+        if (Boolean.parseBoolean(System.getProperty("test.history.record", "true"))) {
+            if (Integer.getInteger("shard.total", 1) > 1) {
+                DurationHistory.writeShard(Integer.getInteger("shard.index", 0), measured);
+            } else {
+                DurationHistory.update(measured);
+            }
+        }
+        measured.clear();
+    }
+}
@@ -0,0 +1,34 @@
+package com.qa.base;
+
+import com.qa.factory.EngineLevel;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.platform.commons.support.AnnotationSupport;
+
+import java.lang.reflect.Method;
+
+/**
+ * EngineSelectionExtension - Hands the test's {@link RequiresEngine} level and {@link ReadOnlyPage}
+ * marker to BaseTest before setUp runs
+ * The method annotation wins over the class annotation; without either a rendering engine is required
+ */
+public class EngineSelectionExtension implements BeforeEachCallback {
+
+    @Override
+    public void beforeEach(ExtensionContext context) {
+        BaseTest test = (BaseTest) context.getRequiredTestInstance();
+        test.requiredEngine = requiredEngine(context.getRequiredTestClass(), context.getRequiredTestMethod());
+        test.readOnlyPage = AnnotationSupport.isAnnotated(context.getRequiredTestMethod(), ReadOnlyPage.class)
+                || AnnotationSupport.isAnnotated(context.getRequiredTestClass(), ReadOnlyPage.class);
+    }
+
+    /**
+     * Engine level a test method needs, from its own or its class's {@link RequiresEngine}
+     */
+    static EngineLevel requiredEngine(Class<?> testClass, Method testMethod) {
+        return AnnotationSupport.findAnnotation(testMethod, RequiresEngine.class)
+                .or(() -> AnnotationSupport.findAnnotation(testClass, RequiresEngine.class))
+                .map(RequiresEngine::value)
+                .orElse(EngineLevel.RENDERING);
+    }
+}
@@ -0,0 +1,59 @@
+package com.qa.base;
+
+import com.qa.artifacts.ArtifactWriter;
+import com.qa.artifacts.FailureArtifacts;
+import com.qa.metrics.CommandTrace;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.LifecycleMethodExecutionExceptionHandler;
+import org.junit.jupiter.api.extension.TestExecutionExceptionHandler;
+import org.opentest4j.TestAbortedException;
+
+/**
+ * FailureArtifactsExtension - Captures diagnostics when a test or its setUp fails
+ * Runs before tearDown while the session is still live, grabs the raw bytes and hands them
+ * to the background {@link ArtifactWriter}; the failure itself is rethrown unchanged
+ */
+public class FailureArtifactsExtension
+        implements BeforeEachCallback, TestExecutionExceptionHandler, LifecycleMethodExecutionExceptionHandler {
+
+    private static final ExtensionContext.Namespace NAMESPACE =
+            ExtensionContext.Namespace.create(FailureArtifactsExtension.class);
+
+    @Override
+    public void beforeEach(ExtensionContext context) {
+        CommandTrace.clear();
+    }
+
+    @Override
+    public void handleTestExecutionException(ExtensionContext context, Throwable throwable) throws Throwable {
+        capture(context, throwable);
+        throw throwable;
+    }
+
+    @Override
+    public void handleBeforeEachMethodExecutionException(ExtensionContext context, Throwable throwable)
+            throws Throwable {
+        capture(context, throwable);
+        throw throwable;
+    }
+
+    private void capture(ExtensionContext context, Throwable throwable) {
+        // Skipped tests (failed assumptions) are not failures
+        if (throwable instanceof TestAbortedException) {
+            return;
+        }
+        if (!Boolean.parseBoolean(System.getProperty("artifacts.capture", "true"))) {
+            return;
+        }
+        // Closed by JUnit when the root context ends, i.e. after the last test, which drains the queue
+        ArtifactWriter writer = ArtifactWriter.shared();
+        context.getRoot().getStore(NAMESPACE).getOrComputeIfAbsent("writer",
+                key -> (ExtensionContext.Store.CloseableResource) writer::close);
+        String testId = context.getRequiredTestClass().getSimpleName() + "."
+                + context.getRequiredTestMethod().getName();
+        Object instance = context.getRequiredTestInstance();
+        writer.submit(FailureArtifacts.capture(testId,
+                instance instanceof BaseTest ? ((BaseTest) instance).driver : null));
+    }
+}
@@ -0,0 +1,58 @@
+package com.qa.base;
+
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.BeforeTestExecutionCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * LifecycleTimingExtension - Publishes setUp, tearDown and browser start-up time of each test
+ * as report entries (setupMs, browserStartupMs, teardownMs), picked up by {@link ResultStreamListener}
+ * Registered first on BaseTest so its callbacks enclose every other extension's
+ */
+public class LifecycleTimingExtension
+        implements BeforeEachCallback, BeforeTestExecutionCallback, AfterTestExecutionCallback, AfterEachCallback {
+
+    private static final ExtensionContext.Namespace NAMESPACE =
+            ExtensionContext.Namespace.create(LifecycleTimingExtension.class);
+
+    @Override
+    public void beforeEach(ExtensionContext context) {
+        context.getStore(NAMESPACE).put("setup", System.nanoTime());
+    }
+
+    @Override
+    public void beforeTestExecution(ExtensionContext context) {
+        Map<String, String> entries = new LinkedHashMap<>();
+        entries.put("setupMs", String.valueOf(millisSince(context, "setup")));
+        Object instance = context.getRequiredTestInstance();
+        if (instance instanceof BaseTest && ((BaseTest) instance).sessionStartupNanos > 0) {
+            entries.put("browserStartupMs",
+                    String.valueOf(TimeUnit.NANOSECONDS.toMillis(((BaseTest) instance).sessionStartupNanos)));
+        }
+        context.publishReportEntry(entries);
+    }
+
+    @Override
+    public void afterTestExecution(ExtensionContext context) {
+        context.getStore(NAMESPACE).put("teardown", System.nanoTime());
+    }
+
+    @Override
+    public void afterEach(ExtensionContext context) {
+        // Absent when setUp failed and the test body never ran
+        if (context.getStore(NAMESPACE).get("teardown") != null) {
+            context.publishReportEntry("teardownMs", String.valueOf(millisSince(context, "teardown")));
+        }
+    }
+
+    private static long millisSince(ExtensionContext context, String key) {
+        long start = context.getStore(NAMESPACE).get(key, Long.class);
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+    }
+}
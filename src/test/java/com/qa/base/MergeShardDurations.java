@@ -0,0 +1,26 @@
+package com.qa.base;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+
+/**
+ * MergeShardDurations - Folds the measurements of a sharded run into the duration history
+ * Run once after every shard has finished, with the .shard-N files of all shards next to the
+ * history file (-Dtest.history.file); merged shard files are deleted.
+ *
+ * mvn verify -Pmerge-durations
+ */
+public final class MergeShardDurations {
+
+    private static final Logger log = LoggerFactory.getLogger(MergeShardDurations.class);
+
+    private MergeShardDurations() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        int merged = DurationHistory.mergeShards();
+        log.info("Merged {} shard duration files into {}", merged, DurationHistory.file().toAbsolutePath());
+    }
+}
@@ -0,0 +1,94 @@
+package com.qa.base;
+
+import com.qa.config.TargetProbe;
+import com.qa.factory.DriverBudget;
+import com.qa.factory.DriverFactory;
+import com.qa.factory.EngineLevel;
+import org.junit.platform.engine.support.descriptor.MethodSource;
+import org.junit.platform.launcher.LauncherSession;
+import org.junit.platform.launcher.LauncherSessionListener;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.TestPlan;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * PrewarmLauncherListener - Starts the target probe and the -Dbrowser browsers as soon as the JUnit
+ * launcher opens, before tests are discovered
+ * Browser launch then overlaps with JVM warm-up, fixture start-up, discovery and target warm-up, and
+ * each worker's first BaseTest.setUp() picks up a session that is already running. Once the
+ * (filtered) test plan is known, the browsers are quit again if no test in it runs on -Dbrowser,
+ * e.g. when every test moved to -Dbrowser.dom.
+ * Before the first test starts it also waits for the probe: if the target never came up, the run is
+ * aborted once here, the browsers are quit, and BaseTest fails a single test with the probe's message
+ * and skips the rest instead of every test rethrowing it.
+ *
+ * Registered in META-INF/services as launcher session and test execution listener;
+ * -Ddriver.prewarm=N sets the number of browsers (default one per worker, 0 disables),
+ * never more than the pool has free
+ */
+public class PrewarmLauncherListener implements LauncherSessionListener, TestExecutionListener {
+
+    private static final Logger log = LoggerFactory.getLogger(PrewarmLauncherListener.class);
+
+    @Override
+    public void launcherSessionOpened(LauncherSession session) {
+        // Start the fixture server or wake the hosted site, and launch browsers, while tests are discovered
+        TargetProbe.start();
+        DriverFactory.prewarm(Integer.getInteger("driver.prewarm", workers()));
+    }
+
+    @Override
+    public void testPlanExecutionStarted(TestPlan testPlan) {
+        try {
+            TargetProbe.awaitReady();
+        } catch (IllegalStateException e) {
+            log.error("Aborting the run, the target is not ready: {}", e.getMessage());
+            DriverFactory.discardPrewarmed();
+            return;
+        }
+        if (!usesConfiguredBrowser(testPlan)) {
+            DriverFactory.discardPrewarmed();
+        }
+    }
+
+    /**
+     * Tests that run at the same time: the browser budget with parallel execution, otherwise one
+     */
+    private static int workers() {
+        return Boolean.getBoolean("junit.jupiter.execution.parallel.enabled")
+                ? DriverBudget.maxConcurrentBrowsers() : 1;
+    }
+
+    private static boolean usesConfiguredBrowser(TestPlan testPlan) {
+        Deque<TestIdentifier> pending = new ArrayDeque<>(testPlan.getRoots());
+        while (!pending.isEmpty()) {
+            TestIdentifier identifier = pending.pop();
+            // Test methods and parameterized test templates carry a MethodSource
+            if (identifier.getSource().filter(MethodSource.class::isInstance)
+                    .map(MethodSource.class::cast)
+                    .filter(PrewarmLauncherListener::usesConfiguredBrowser)
+                    .isPresent()) {
+                return true;
+            }
+            pending.addAll(testPlan.getChildren(identifier));
+        }
+        return false;
+    }
+
+    private static boolean usesConfiguredBrowser(MethodSource source) {
+        try {
+            Class<?> testClass = source.getJavaClass();
+            return BaseTest.class.isAssignableFrom(testClass)
+                    && BaseTest.browserFor(EngineSelectionExtension.requiredEngine(testClass, source.getJavaMethod()))
+                    .equals(BaseTest.browserFor(EngineLevel.RENDERING));
+        } catch (RuntimeException e) {
+            // Unresolvable source: assume the worst and keep the browser warm-up
+            return true;
+        }
+    }
+}
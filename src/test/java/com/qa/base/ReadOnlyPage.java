@@ -0,0 +1,18 @@
+package com.qa.base;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * ReadOnlyPage - Marks a test that only reads static page state, on a test method or class
+ * Such tests get their page objects from a snapshot loaded once per run and engine,
+ * without a session or navigation of their own (-Dpage.snapshot=false loads the page per test)
+ */
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@Inherited
+public @interface ReadOnlyPage {
+}
@@ -0,0 +1,22 @@
+package com.qa.base;
+
+import com.qa.factory.EngineLevel;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * RequiresEngine - Minimum browser engine a test needs, on a test method or class
+ * Tests marked DOM only read structure and text; they run on -Dbrowser like every other test
+ * unless -Dbrowser.dom (e.g. htmlunit) opts them into a lighter engine.
+ * Unmarked tests need a rendering browser (-Dbrowser)
+ */
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@Inherited
+public @interface RequiresEngine {
+    EngineLevel value();
+}
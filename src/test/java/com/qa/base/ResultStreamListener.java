@@ -0,0 +1,244 @@
+package com.qa.base;
+
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.engine.reporting.ReportEntry;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.TestPlan;
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.json.JsonOutput;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ResultStreamListener - Streams one JSON line per finished test while the run is in progress
+ * Each line has the test id, status (PASSED, FAILED, ERROR, SKIPPED), duration, the setUp / tearDown /
+ * browser start-up times published by {@link LifecycleTimingExtension}, and the failure cause.
+ * The file is flushed per line, so it can be tailed during long runs; a summary with counts and
+ * failures is written when the run ends and logged in compact form.
+ *
+ * Registered in META-INF/services; -Dtest.results.file (target/test-results.jsonl),
+ * -Dtest.summary.file (target/test-summary.json)
+ */
+public class ResultStreamListener implements TestExecutionListener {
+
+    private static final Logger log = LoggerFactory.getLogger(ResultStreamListener.class);
+    private static final List<String> TIMING_KEYS = Arrays.asList("setupMs", "browserStartupMs", "teardownMs");
+    private static final int MAX_MESSAGE_LENGTH = 2000;
+
+    private final Map<String, Long> started = new ConcurrentHashMap<>();
+    private final Map<String, Map<String, Long>> timings = new ConcurrentHashMap<>();
+    private final Map<String, Integer> counts = new LinkedHashMap<>();
+    private final List<Map<String, Object>> failures = new ArrayList<>();
+    private Writer out;
+    private long runStart;
+
+    @Override
+    public synchronized void testPlanExecutionStarted(TestPlan testPlan) {
+        runStart = System.nanoTime();
+        for (String status : Arrays.asList("PASSED", "FAILED", "ERROR", "SKIPPED")) {
+            counts.put(status, 0);
+        }
+        failures.clear();
+
+        Path file = Paths.get(System.getProperty("test.results.file", "target/test-results.jsonl"));
+        try {
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            out = Files.newBufferedWriter(file, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            log.warn("Test results will not be streamed to {}: {}", file, e.getMessage());
+            out = null;
+        }
+
+        Map<String, Object> line = new LinkedHashMap<>();
+        line.put("event", "start");
+        line.put("timestamp", Instant.now().toString());
+        line.put("tests", testPlan.countTestIdentifiers(TestIdentifier::isTest));
+        write(line);
+    }
+
+    @Override
+    public void executionStarted(TestIdentifier identifier) {
+        if (identifier.isTest()) {
+            started.put(identifier.getUniqueId(), System.nanoTime());
+        }
+    }
+
+    @Override
+    public void reportingEntryPublished(TestIdentifier identifier, ReportEntry entry) {
+        entry.getKeyValuePairs().forEach((key, value) -> {
+            if (TIMING_KEYS.contains(key)) {
+                timings.computeIfAbsent(identifier.getUniqueId(), k -> new ConcurrentHashMap<>())
+                        .put(key, Long.parseLong(value));
+            }
+        });
+    }
+
+    @Override
+    public void executionSkipped(TestIdentifier identifier, String reason) {
+        if (identifier.isTest()) {
+            Map<String, Object> line = testLine(identifier, "SKIPPED", 0);
+            line.put("reason", reason);
+            record(line, "SKIPPED", null);
+        }
+    }
+
+    @Override
+    public void executionFinished(TestIdentifier identifier, TestExecutionResult result) {
+        Long start = started.remove(identifier.getUniqueId());
+        // Containers are only reported when they fail themselves (e.g. a static initializer)
+        if (!identifier.isTest() && result.getStatus() != TestExecutionResult.Status.FAILED) {
+            return;
+        }
+        long millis = start == null ? 0 : TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        String status = status(result);
+        Map<String, Object> line = testLine(identifier, status, millis);
+        Map<String, Long> testTimings = timings.remove(identifier.getUniqueId());
+        if (testTimings != null) {
+            TIMING_KEYS.stream().filter(testTimings::containsKey).forEach(key -> line.put(key, testTimings.get(key)));
+        }
+        Map<String, Object> failure = null;
+        Throwable throwable = result.getThrowable().orElse(null);
+        if (throwable != null && result.getStatus() == TestExecutionResult.Status.ABORTED) {
+            line.put("reason", String.valueOf(throwable.getMessage()));
+        } else if (throwable != null) {
+            failure = failure(throwable);
+            line.put("failure", failure);
+        }
+        record(line, status, failure);
+    }
+
+    @Override
+    public synchronized void testPlanExecutionFinished(TestPlan testPlan) {
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("event", "summary");
+        summary.put("timestamp", Instant.now().toString());
+        summary.put("durationMs", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - runStart));
+        summary.put("total", counts.values().stream().mapToInt(Integer::intValue).sum());
+        summary.put("passed", counts.get("PASSED"));
+        summary.put("failed", counts.get("FAILED"));
+        summary.put("errors", counts.get("ERROR"));
+        summary.put("skipped", counts.get("SKIPPED"));
+        summary.put("failures", new ArrayList<>(failures));
+        write(summary);
+        if (out != null) {
+            try {
+                out.close();
+            } catch (IOException e) {
+                log.warn("Could not close test results stream: {}", e.getMessage());
+            }
+            out = null;
+        }
+
+        Path file = Paths.get(System.getProperty("test.summary.file", "target/test-summary.json"));
+        try {
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            Files.write(file, new Json().toJson(summary).getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            log.warn("Could not write test summary to {}: {}", file, e.getMessage());
+        }
+
+        StringBuilder compact = new StringBuilder(String.format(
+                "Tests: %s total, %s passed, %s failed, %s errors, %s skipped in %.1f s",
+                summary.get("total"), counts.get("PASSED"), counts.get("FAILED"), counts.get("ERROR"),
+                counts.get("SKIPPED"), ((Long) summary.get("durationMs")) / 1000.0));
+        for (Map<String, Object> failed : failures) {
+            compact.append(String.format("%n  %s %s: %s", failed.get("status"), failed.get("test"),
+                    failed.get("message")));
+        }
+        log.info(compact.toString());
+    }
+
+    private synchronized void record(Map<String, Object> line, String status, Map<String, Object> failure) {
+        counts.merge(status, 1, Integer::sum);
+        if (failure != null) {
+            Map<String, Object> failed = new LinkedHashMap<>();
+            failed.put("test", line.get("test"));
+            failed.put("status", status);
+            failed.putAll(failure);
+            failures.add(failed);
+        }
+        write(line);
+    }
+
+    private synchronized void write(Map<String, Object> line) {
+        if (out == null) {
+            return;
+        }
+        try {
+            StringBuilder json = new StringBuilder();
+            try (JsonOutput output = new Json().newOutput(json)) {
+                output.setPrettyPrint(false).write(line);
+            }
+            out.write(json.toString());
+            out.write(System.lineSeparator());
+            out.flush();
+        } catch (IOException e) {
+            log.warn("Stopped streaming test results: {}", e.getMessage());
+            out = null;
+        }
+    }
+
+    private static Map<String, Object> testLine(TestIdentifier identifier, String status, long millis) {
+        Map<String, Object> line = new LinkedHashMap<>();
+        line.put("event", identifier.isTest() ? "test" : "container");
+        line.put("test", identifier.getSource().flatMap(ShardFilter::testKey).orElse(identifier.getUniqueId()));
+        line.put("name", identifier.getDisplayName());
+        line.put("status", status);
+        line.put("durationMs", millis);
+        return line;
+    }
+
+    /**
+     * Surefire's split: assertion failures are FAILED, any other exception is an ERROR
+     */
+    private static String status(TestExecutionResult result) {
+        switch (result.getStatus()) {
+            case SUCCESSFUL:
+                return "PASSED";
+            case ABORTED:
+                return "SKIPPED";
+            default:
+                return result.getThrowable().filter(t -> t instanceof AssertionError).isPresent()
+                        ? "FAILED" : "ERROR";
+        }
+    }
+
+    /**
+     * Exception type, message and the first frame in project code
+     */
+    private static Map<String, Object> failure(Throwable throwable) {
+        Map<String, Object> failure = new LinkedHashMap<>();
+        failure.put("type", throwable.getClass().getName());
+        String message = String.valueOf(throwable.getMessage());
+        failure.put("message", message.length() > MAX_MESSAGE_LENGTH
+                ? message.substring(0, MAX_MESSAGE_LENGTH) + "..." : message);
+        for (StackTraceElement frame : throwable.getStackTrace()) {
+            if (frame.getClassName().startsWith("com.qa.")) {
+                failure.put("location", frame.getFileName() + ":" + frame.getLineNumber());
+                failure.put("frame", frame.toString());
+                break;
+            }
+        }
+        return failure;
+    }
+}
@@ -0,0 +1,137 @@
+package com.qa.base;
+
+import org.junit.platform.engine.FilterResult;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.TestSource;
+import org.junit.platform.engine.support.descriptor.MethodSource;
+import org.junit.platform.launcher.PostDiscoveryFilter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * ShardFilter - Runs only this JVM's share of the test methods when -Dshard.total is above 1
+ * Shards are balanced by recorded duration ({@link DurationHistory}) with longest-processing-time-first
+ * bin packing: methods are taken longest first and each goes to the currently lightest shard.
+ * Every shard computes the same assignment from the same history, so -Dshard.index=0..total-1
+ * across forks or CI nodes covers every test exactly once. Sharded runs only read the history;
+ * their measurements are merged afterwards with {@link MergeShardDurations}.
+ *
+ * Registered in META-INF/services
+ */
+public class ShardFilter implements PostDiscoveryFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(ShardFilter.class);
+
+    private final int total = Integer.getInteger("shard.total", 1);
+    private final int index = Integer.getInteger("shard.index", 0);
+
+    private TestDescriptor plannedRoot;
+    private Set<String> selected;
+
+    @Override
+    public FilterResult apply(TestDescriptor descriptor) {
+        if (total <= 1) {
+            return FilterResult.included("sharding disabled");
+        }
+        Optional<String> test = testKey(descriptor);
+        if (test.isEmpty()) {
+            return FilterResult.included("not a test method");
+        }
+        return shard(root(descriptor)).contains(test.get())
+                ? FilterResult.included("in shard " + index + " of " + total)
+                : FilterResult.excluded("in another shard");
+    }
+
+    /**
+     * Test methods assigned to this shard; computed once from the whole discovered plan
+     */
+    private synchronized Set<String> shard(TestDescriptor root) {
+        if (root == plannedRoot) {
+            return selected;
+        }
+        if (index < 0 || index >= total) {
+            throw new IllegalArgumentException("shard.index must be between 0 and " + (total - 1) + ", was " + index);
+        }
+        DurationHistory history = DurationHistory.load();
+        Set<String> tests = new TreeSet<>();
+        collect(root, tests);
+
+        List<String> longestFirst = new ArrayList<>(tests);
+        longestFirst.sort(Comparator.comparingLong(history::estimateMillis).reversed()
+                .thenComparing(Comparator.naturalOrder()));
+
+        // Lightest shard first; ties go to the lowest index so every JVM gets the same result
+        PriorityQueue<long[]> shards = new PriorityQueue<>(
+                Comparator.<long[]>comparingLong(s -> s[1]).thenComparingLong(s -> s[0]));
+        for (int i = 0; i < total; i++) {
+            shards.add(new long[]{i, 0});
+        }
+        Set<String> mine = new HashSet<>();
+        long totalMillis = 0;
+        long mineMillis = 0;
+        int unknown = 0;
+        for (String test : longestFirst) {
+            long estimate = history.estimateMillis(test);
+            long[] lightest = shards.poll();
+            lightest[1] += estimate;
+            shards.add(lightest);
+            totalMillis += estimate;
+            if (lightest[0] == index) {
+                mine.add(test);
+                mineMillis += estimate;
+            }
+            if (!history.isKnown(test)) {
+                unknown++;
+            }
+        }
+        log.info("Shard {} of {}: {} of {} test methods, estimated {} s (ideal {} s); {} without history",
+                index, total, mine.size(), tests.size(), mineMillis / 1000.0, totalMillis / 1000.0 / total, unknown);
+
+        plannedRoot = root;
+        selected = mine;
+        return mine;
+    }
+
+    private static void collect(TestDescriptor descriptor, Set<String> tests) {
+        Optional<String> test = testKey(descriptor);
+        if (test.isPresent()) {
+            tests.add(test.get());
+            return;
+        }
+        for (TestDescriptor child : descriptor.getChildren()) {
+            collect(child, tests);
+        }
+    }
+
+    private static TestDescriptor root(TestDescriptor descriptor) {
+        TestDescriptor root = descriptor;
+        while (root.getParent().isPresent()) {
+            root = root.getParent().get();
+        }
+        return root;
+    }
+
+    /**
+     * class#method for test methods (and parameterized test templates), empty for anything else
+     */
+    static Optional<String> testKey(TestDescriptor descriptor) {
+        return descriptor.getSource().flatMap(ShardFilter::testKey);
+    }
+
+    static Optional<String> testKey(TestSource source) {
+        if (source instanceof MethodSource) {
+            MethodSource method = (MethodSource) source;
+            return Optional.of(method.getClassName() + "#" + method.getMethodName());
+        }
+        return Optional.empty();
+    }
+}
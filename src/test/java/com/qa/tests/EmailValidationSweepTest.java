@@ -0,0 +1,53 @@
+package com.qa.tests;
+
+import com.qa.base.BaseTest;
+import com.qa.data.EmailCase;
+import com.qa.data.EmailCorpus;
+import com.qa.data.EmailValidationSweep;
+import com.qa.data.ValidationResults;
+import org.junit.jupiter.api.*;
+
+import java.net.URISyntaxException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * EmailValidationSweepTest - Data-driven email validation through a single browser session
+ * Uses the bundled corpus by default; -Dsweep.csv=path or -Dsweep.generate=N for larger runs
+ */
+@DisplayName("Email Validation Sweep")
+public class EmailValidationSweepTest extends BaseTest {
+
+    private static final Path RESULTS_FILE = Paths.get("target", "email-sweep.csv");
+
+    @Test
+    @DisplayName("Verify form accepts valid and rejects invalid emails across the corpus")
+    void testEmailValidationCorpus() throws URISyntaxException {
+        List<EmailCase> cases = loadCorpus();
+
+        ValidationResults results = new EmailValidationSweep(driver, Duration.ofSeconds(5)).run(cases);
+        results.writeCsv(RESULTS_FILE);
+
+        Assertions.assertEquals(cases.size(), results.size(),
+                "Every case should produce a result");
+        Assertions.assertTrue(results.mismatches().isEmpty(),
+                () -> "Form disagreed with expected validity for: " + results.mismatches().stream()
+                        .map(row -> "'" + results.getEmail(row) + "'")
+                        .collect(Collectors.joining(", ")) + " (" + results + ")");
+    }
+
+    private List<EmailCase> loadCorpus() throws URISyntaxException {
+        Integer generated = Integer.getInteger("sweep.generate");
+        if (generated != null) {
+            return EmailCorpus.generate(generated, Long.getLong("sweep.seed", 42L));
+        }
+        String csv = System.getProperty("sweep.csv");
+        if (csv != null) {
+            return EmailCorpus.fromCsv(Paths.get(csv));
+        }
+        return EmailCorpus.fromCsv(Paths.get(getClass().getResource("/data/emails.csv").toURI()));
+    }
+}
@@ -1,6 +1,9 @@
 package com.qa.tests;
 
 import com.qa.base.BaseTest;
+import com.qa.base.ReadOnlyPage;
+import com.qa.base.RequiresEngine;
+import com.qa.factory.EngineLevel;
 import com.qa.pages.NewsletterPage;
 import com.qa.pages.SuccessPage;
 import org.junit.jupiter.api.*;
@@ -9,7 +12,6 @@ import org.junit.jupiter.api.*;
  * NewsletterPOMTest - Tests for Newsletter functionality using Page Object Model
  * Streamlined to 5 essential test cases
  */
-@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
 @DisplayName("Newsletter Page Object Model Tests")
 public class NewsletterPOMTest extends BaseTest {
 
@@ -20,16 +22,16 @@ public class NewsletterPOMTest extends BaseTest {
     @Override
     public void setUp() {
         super.setUp();
-        newsletterPage = new NewsletterPage(driver);
-        successPage = new SuccessPage(driver);
+        newsletterPage = newsletterPage();
+        // Read-only tests run against the page snapshot and have no session
+        successPage = driver != null ? new SuccessPage(driver) : null;
     }
 
     @Test
-    @Order(1)
     @DisplayName("TC001 - Verify page heading displays correctly")
+    @RequiresEngine(EngineLevel.DOM)
+    @ReadOnlyPage
     void testHeadingIsDisplayed() {
-        pause(500);
-
         String heading = newsletterPage.getHeadingText();
 
         Assertions.assertEquals("Stay updated!", heading.trim(),
@@ -37,15 +39,10 @@ public class NewsletterPOMTest extends BaseTest {
     }
 
     @Test
-    @Order(2)
     @DisplayName("TC002 - Verify successful subscription with valid email")
     void testSuccessfulSubscriptionWithValidEmail() {
-        pause(500);
-
         newsletterPage.subscribeWithEmail("test@example.com");
 
-        pause(2000);
-
         boolean successDisplayed = successPage.waitForSuccessPageToAppear();
 
         Assertions.assertTrue(successDisplayed,
@@ -53,16 +50,11 @@ public class NewsletterPOMTest extends BaseTest {
     }
 
     @Test
-    @Order(3)
     @DisplayName("TC003 - Verify error message for invalid email format")
     void testInvalidEmailShowsError() {
-        pause(500);
-
         newsletterPage.enterEmail("invalid-email");
-        pause(500);
 
         newsletterPage.clickSubscribeButton();
-        pause(1500);
 
         boolean hasError = newsletterPage.isErrorMessageDisplayed();
 
@@ -71,13 +63,9 @@ public class NewsletterPOMTest extends BaseTest {
     }
 
     @Test
-    @Order(4)
     @DisplayName("TC004 - Verify success message displays")
     void testSuccessMessageDisplays() {
-        pause(500);
-
         newsletterPage.subscribeWithEmail("success@example.com");
-        pause(2000);
 
         boolean successMessage = successPage.verifySuccessMessage("Thanks for subscribing");
 
@@ -86,11 +74,10 @@ public class NewsletterPOMTest extends BaseTest {
     }
 
     @Test
-    @Order(5)
     @DisplayName("TC005 - Verify page elements are present")
+    @RequiresEngine(EngineLevel.DOM)
+    @ReadOnlyPage
     void testPageElementsPresent() {
-        pause(500);
-
         Assertions.assertTrue(newsletterPage.isEmailFieldDisplayed(),
                 "Email field should be present");
 
@@ -0,0 +1,54 @@
+package com.qa.tests;
+
+import com.qa.base.BaseTest;
+import com.qa.metrics.PagePerformance;
+import com.qa.metrics.PerformanceBudget;
+import com.qa.pages.NewsletterPage;
+import com.qa.pages.SuccessPage;
+import org.junit.jupiter.api.*;
+
+import java.util.List;
+
+/**
+ * NewsletterPerformanceTest - Front-end performance budgets for the sign-up page
+ * Budgets come from -Dperf.budget.&lt;metric&gt;; every measurement is appended to the trend file.
+ * Tagged "performance" and left out of the default run: timings depend on the machine and the
+ * target, so the budgets are checked on request with mvn test -Pperf
+ */
+@Tag("performance")
+@DisplayName("Newsletter Performance Budget Tests")
+public class NewsletterPerformanceTest extends BaseTest {
+
+    private final PerformanceBudget budget = PerformanceBudget.fromSystemProperties();
+
+    @Test
+    @DisplayName("PERF001 - Verify page load stays within budget")
+    void testPageLoadWithinBudget(TestInfo testInfo) {
+        PagePerformance performance = newsletterPage().getPerformance();
+        performance.appendToTrend(testInfo.getDisplayName());
+
+        List<String> violations = budget.violations(performance);
+
+        Assertions.assertTrue(violations.isEmpty(),
+                "Page load should stay within budget: " + violations + " (" + performance + ")");
+    }
+
+    @Test
+    @DisplayName("PERF002 - Verify subscribe to success message stays within budget")
+    void testSubscribeToSuccessWithinBudget(TestInfo testInfo) {
+        NewsletterPage newsletterPage = newsletterPage();
+        SuccessPage successPage = new SuccessPage(driver);
+        newsletterPage.armClickTiming().subscribeWithEmail("perf@example.com");
+        Assertions.assertTrue(successPage.waitForSuccessPageToAppear(),
+                "Success page should appear after valid subscription");
+
+        PagePerformance performance = successPage.getPerformance();
+        performance.appendToTrend(testInfo.getDisplayName());
+
+        Assertions.assertTrue(performance.get(PagePerformance.CLICK_TO_SUCCESS).isPresent(),
+                "Click to success time should be measured: " + performance);
+        List<String> violations = budget.violations(performance);
+        Assertions.assertTrue(violations.isEmpty(),
+                "Subscribe flow should stay within budget: " + violations);
+    }
+}
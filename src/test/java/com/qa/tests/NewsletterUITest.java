@@ -1,6 +1,11 @@
 package com.qa.tests;
 
 import com.qa.base.BaseTest;
+import com.qa.base.ReadOnlyPage;
+import com.qa.base.RequiresEngine;
+import com.qa.factory.EngineLevel;
+import com.qa.pages.NewsletterPage;
+import com.qa.utils.TextQuery;
 import org.junit.jupiter.api.*;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebElement;
@@ -10,28 +15,22 @@ import org.openqa.selenium.support.ui.ExpectedConditions;
  * NewsletterUITest - UI-level tests for Newsletter page
  * Streamlined to 5 essential test cases
  */
-@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
 @DisplayName("Newsletter UI Tests")
 public class NewsletterUITest extends BaseTest {
 
     @Test
-    @Order(1)
     @DisplayName("Verify page heading is present and correct")
+    @RequiresEngine(EngineLevel.DOM)
+    @ReadOnlyPage
     void testPageHeadingIsDisplayed() {
-        pause(500);
-
-        WebElement heading = wait.until(ExpectedConditions.visibilityOfElementLocated(By.id("head")));
-
-        Assertions.assertEquals("Stay updated!", heading.getText(),
+        Assertions.assertEquals("Stay updated!", newsletterPage().getHeadingText(),
                 "Heading text should be 'Stay updated!'");
     }
 
     @Test
-    @Order(2)
     @DisplayName("Verify email input field is present and functional")
+    @RequiresEngine(EngineLevel.DOM)
     void testEmailInputFieldExists() {
-        pause(500);
-
         WebElement emailField = wait.until(ExpectedConditions.visibilityOfElementLocated(By.id("email")));
 
         emailField.sendKeys("test@example.com");
@@ -41,49 +40,36 @@ public class NewsletterUITest extends BaseTest {
     }
 
     @Test
-    @Order(3)
     @DisplayName("Verify form submission with valid email")
     void testFormSubmissionWithValidEmail() {
-        pause(500);
-
         WebElement emailField = wait.until(ExpectedConditions.visibilityOfElementLocated(By.id("email")));
         emailField.clear();
         emailField.sendKeys("valid.user@example.com");
 
-        pause(500);
-
         WebElement subscribeButton = wait.until(
                 ExpectedConditions.elementToBeClickable(By.id("subscribe-btn"))
         );
         subscribeButton.click();
 
-        pause(1500);
-
-        boolean successDisplayed = driver.getPageSource().contains("Thanks for subscribing");
+        boolean successDisplayed = wait.check(
+                d -> TextQuery.on(d).visibleOnly().contains("Thanks for subscribing"));
 
         Assertions.assertTrue(successDisplayed,
                 "Success message should appear after valid submission");
     }
 
     @Test
-    @Order(4)
     @DisplayName("Verify error message display for invalid email")
     void testErrorMessageForInvalidEmail() {
-        pause(500);
-
         WebElement emailField = wait.until(ExpectedConditions.visibilityOfElementLocated(By.id("email")));
         emailField.clear();
         emailField.sendKeys("invalid-email");
 
-        pause(500);
-
         WebElement subscribeButton = wait.until(
                 ExpectedConditions.elementToBeClickable(By.id("subscribe-btn"))
         );
         subscribeButton.click();
 
-        pause(1000);
-
         WebElement errorMessage = wait.until(
                 ExpectedConditions.visibilityOfElementLocated(By.id("email-error"))
         );
@@ -93,16 +79,15 @@ public class NewsletterUITest extends BaseTest {
     }
 
     @Test
-    @Order(5)
     @DisplayName("Verify subscribe button is present and clickable")
+    @RequiresEngine(EngineLevel.DOM)
+    @ReadOnlyPage
     void testSubscribeButtonExists() {
-        pause(500);
-
-        WebElement subscribeButton = wait.until(
-                ExpectedConditions.elementToBeClickable(By.id("subscribe-btn"))
-        );
+        NewsletterPage page = newsletterPage();
 
-        Assertions.assertTrue(subscribeButton.isDisplayed(),
+        Assertions.assertTrue(page.isSubscribeButtonDisplayed(),
                 "Subscribe button should be displayed");
+        Assertions.assertTrue(page.isSubscribeButtonEnabled(),
+                "Subscribe button should be clickable");
     }
 }
\ No newline at end of file